@@ -0,0 +1,17 @@
+#!/bin/bash
+# Builds the application classes, then the JMH uber-jar, then runs every benchmark (or the ones matching
+# the JMH arguments given, e.g. ./benchmarks/run.sh MappingBenchmark -p pageSize=500).
+# Results are written as JSON under benchmarks/results/ to compare against a previous baseline.
+
+set -euo pipefail
+
+ROOT_DIR="$(cd "$(dirname "$0")/.." && pwd)"
+RESULTS_DIR="$ROOT_DIR/benchmarks/results"
+mkdir -p "$RESULTS_DIR"
+
+mvn -q -f "$ROOT_DIR/pom.xml" -Pbenchmarks -DskipTests install
+mvn -q -f "$ROOT_DIR/benchmarks/pom.xml" package
+
+java -jar "$ROOT_DIR/benchmarks/target/benchmarks.jar" \
+    -rf json -rff "$RESULTS_DIR/jmh-$(date +%Y%m%d-%H%M%S).json" \
+    "$@"
@@ -0,0 +1,59 @@
+-- EXPLAIN (ANALYZE, BUFFERS) of the query shapes the service and Supabase clients run against the
+-- generated dataset. Service queries run as the table owner (RLS bypassed, like the service role);
+-- the last section runs as `authenticated` with a JWT subject to measure the policies.
+
+\set bench_user bench-user-4242
+\set bench_item bench-item-4242
+\set bench_account bench-account-4242-0
+\set since 2024-01-01
+\set page_from 2020-01-01
+\set page_to 2024-12-31
+
+-- BridgeAccountRepository.findByItemIdAndIsSelectedTrue / existsByItemIdAndIsSelectedTrue
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_accounts WHERE item_id = :'bench_item' AND is_selected;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT 1 FROM bridge_accounts WHERE item_id = :'bench_item' AND is_selected LIMIT 1;
+
+-- BridgeItemRepository.findByUserUuid
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_items WHERE user_uuid = :'bench_user';
+
+-- BridgeTransactionRepository.findByAccountIdAndDateAfter
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_transactions WHERE account_id = :'bench_account' AND date > :'since';
+
+-- BridgeTransactionRepository.findPageByAccountId
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT transaction_id, account_id, description, amount, currency, date, operation_type, category_id,
+       category_name, is_deleted
+FROM bridge_transactions
+WHERE account_id = :'bench_account' AND date BETWEEN :'page_from' AND :'page_to'
+ORDER BY date DESC, transaction_id DESC
+LIMIT 100;
+
+-- BridgeTransactionExportRepository.stream with a one-month range, pruned to a single partition
+-- once bridge_transactions is partitioned
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM bridge_transactions WHERE date >= date '2024-06-01' AND date <= date '2024-06-30';
+
+-- Same queries through the RLS policies, as the user owning bench_item
+BEGIN;
+SET LOCAL ROLE authenticated;
+SELECT set_config('request.jwt.claims', json_build_object('sub', md5(:'bench_user')::uuid)::text, true);
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_items;
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_accounts WHERE item_id = :'bench_item';
+
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT * FROM bridge_transactions WHERE account_id = :'bench_account' AND date > :'since';
+
+-- No filter from the client: the policy alone has to restrict 10M rows
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*) FROM bridge_transactions;
+
+ROLLBACK;
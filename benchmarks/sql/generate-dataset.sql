@@ -0,0 +1,63 @@
+-- Deterministic dataset for the EXPLAIN ANALYZE scripts: :users users with one item each,
+-- :accounts_per_user accounts per item (the first one selected) and :transactions transactions spread
+-- evenly over the accounts and over five years. Defaults give 10M transactions on 40k accounts.
+--
+-- psql -v users=20000 -v accounts_per_user=2 -v transactions=10000000 -f generate-dataset.sql
+
+\if :{?users}
+\else
+    \set users 20000
+\endif
+\if :{?accounts_per_user}
+\else
+    \set accounts_per_user 2
+\endif
+\if :{?transactions}
+\else
+    \set transactions 10000000
+\endif
+
+\timing on
+
+TRUNCATE bridge_transactions, bridge_accounts, bridge_items, bridge_users;
+
+INSERT INTO bridge_users (bridge_uuid, email, external_user_id)
+SELECT 'bench-user-' || u, 'bench-user-' || u || '@example.com', md5('bench-user-' || u)::uuid::text
+FROM generate_series(1, :users) u;
+
+INSERT INTO bridge_items (item_id, user_uuid, provider_id, provider_name, status)
+SELECT 'bench-item-' || u, 'bench-user-' || u, 1 + u % 50, 'Bench Bank ' || (1 + u % 50), '0'
+FROM generate_series(1, :users) u;
+
+INSERT INTO bridge_accounts (account_id, item_id, name, balance, currency, type, status, is_selected)
+SELECT 'bench-account-' || u || '-' || a, 'bench-item-' || u, 'Account ' || a,
+       round(((u * 7919 + a * 104729) % 1000000) / 100.0, 2), 'EUR', 'checking', 'ok', a = 0
+FROM generate_series(1, :users) u, generate_series(0, :accounts_per_user - 1) a;
+
+INSERT INTO bridge_transactions (transaction_id, account_id, description, amount, currency, date,
+                                 operation_type, category_id, category_name, is_deleted)
+SELECT 'bench-tx-' || t,
+       'bench-account-' || (1 + (t % (:users * :accounts_per_user)) / :accounts_per_user)
+           || '-' || (t % (:users * :accounts_per_user)) % :accounts_per_user,
+       'Transaction ' || t,
+       round((((t * 31) % 20000) - 15000) / 100.0, 2),
+       'EUR',
+       date '2020-01-01' + ((t * 7919) % 1826)::integer,
+       CASE WHEN t % 3 = 0 THEN 'card' ELSE 'transfer' END,
+       t % 40,
+       'Category ' || t % 40,
+       t % 500 = 0
+FROM generate_series(1, :transactions) t;
+
+-- Only present once the transaction key migration is applied
+DO $$
+BEGIN
+    IF to_regclass('bridge_transaction_keys') IS NOT NULL THEN
+        TRUNCATE bridge_transaction_keys;
+        INSERT INTO bridge_transaction_keys (transaction_id, account_id, date)
+        SELECT transaction_id, account_id, date FROM bridge_transactions;
+    END IF;
+END;
+$$;
+
+VACUUM ANALYZE bridge_users, bridge_items, bridge_accounts, bridge_transactions;
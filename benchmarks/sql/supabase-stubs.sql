@@ -0,0 +1,29 @@
+-- Minimal stand-ins for the Supabase objects the migrations reference, for a plain PostgreSQL scratch
+-- database. Nothing is replaced when they already exist, so the script is a no-op against Supabase.
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_roles WHERE rolname = 'authenticated') THEN
+        CREATE ROLE authenticated NOLOGIN;
+    END IF;
+END;
+$$;
+
+CREATE SCHEMA IF NOT EXISTS auth;
+GRANT USAGE ON SCHEMA auth TO authenticated;
+
+DO $$
+BEGIN
+    IF to_regprocedure('auth.uid()') IS NULL THEN
+        -- Same lookup as Supabase: the `sub` claim of the request JWT
+        CREATE FUNCTION auth.uid() RETURNS uuid
+        LANGUAGE sql STABLE
+        AS $fn$
+            SELECT coalesce(
+                nullif(current_setting('request.jwt.claim.sub', true), ''),
+                nullif(current_setting('request.jwt.claims', true), '')::jsonb ->> 'sub'
+            )::uuid
+        $fn$;
+    END IF;
+END;
+$$;
@@ -0,0 +1,84 @@
+package com.bridgeapi.benchmarks;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Amount parsing as done by BridgeResourceMapper (BigDecimal.valueOf(asDouble())) against keeping the
+ * decimal representation end to end. The double round trip is also lossy beyond 15-17 significant digits.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AmountParsingBenchmark {
+
+    private static final int AMOUNTS = 1000;
+
+    private JsonNode doubleNodes;
+    private JsonNode decimalNodes;
+    private byte[] document;
+    private ObjectMapper doubleMapper;
+    private ObjectMapper decimalMapper;
+
+    @Setup
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < AMOUNTS; i++) {
+            json.append(i > 0 ? "," : "").append(BenchmarkData.amount(random));
+        }
+        document = json.append(']').toString().getBytes();
+
+        doubleMapper = new ObjectMapper();
+        decimalMapper = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        doubleNodes = doubleMapper.readTree(document);
+        decimalNodes = decimalMapper.readTree(document);
+    }
+
+    @Benchmark
+    public void valueOfAsDouble(Blackhole blackhole) {
+        for (JsonNode node : doubleNodes) {
+            blackhole.consume(BigDecimal.valueOf(node.asDouble()));
+        }
+    }
+
+    @Benchmark
+    public void decimalValue(Blackhole blackhole) {
+        for (JsonNode node : decimalNodes) {
+            blackhole.consume(node.decimalValue());
+        }
+    }
+
+    @Benchmark
+    public void newBigDecimalFromText(Blackhole blackhole) {
+        for (JsonNode node : doubleNodes) {
+            blackhole.consume(new BigDecimal(node.asText()));
+        }
+    }
+
+    // Same comparisons including the tree parse, which is where the representation is chosen
+    @Benchmark
+    public void parseAsDouble(Blackhole blackhole) throws IOException {
+        for (JsonNode node : doubleMapper.readTree(document)) {
+            blackhole.consume(BigDecimal.valueOf(node.asDouble()));
+        }
+    }
+
+    @Benchmark
+    public void parseAsDecimal(Blackhole blackhole) throws IOException {
+        for (JsonNode node : decimalMapper.readTree(document)) {
+            blackhole.consume(node.decimalValue());
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.bridgeapi.benchmarks;
+
+import com.bridgeapi.model.entity.BridgeTransaction;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Deterministic Bridge-shaped payloads and entities shared by the benchmarks.
+ */
+final class BenchmarkData {
+
+    private static final String[] OPERATION_TYPES = {"card", "transfer", "direct_debit", "withdrawal"};
+    private static final LocalDate START_DATE = LocalDate.of(2024, 1, 1);
+
+    private BenchmarkData() {
+    }
+
+    static byte[] transactionPage(int size) {
+        Random random = new Random(42);
+        StringBuilder json = new StringBuilder("{\"resources\":[");
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"id\":").append(1_000_000 + i)
+                    .append(",\"account_id\":").append(10_000 + random.nextInt(5))
+                    .append(",\"description\":\"CB MERCHANT ").append(random.nextInt(1000)).append(" PARIS\"")
+                    .append(",\"amount\":").append(amount(random))
+                    .append(",\"currency\":\"EUR\"")
+                    .append(",\"date\":\"").append(START_DATE.plusDays(random.nextInt(365))).append('"')
+                    .append(",\"operation_type\":\"").append(OPERATION_TYPES[random.nextInt(OPERATION_TYPES.length)]).append('"')
+                    .append(",\"category_id\":").append(200 + random.nextInt(100))
+                    .append(",\"is_deleted\":false")
+                    .append(",\"updated_at\":\"").append(Instant.parse("2025-01-01T00:00:00Z").plusSeconds(i)).append('"')
+                    .append('}');
+        }
+        json.append("],\"pagination\":{\"next_uri\":null}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    static List<BridgeTransaction> transactions(long firstId, int size) {
+        Random random = new Random(firstId);
+        List<BridgeTransaction> transactions = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            BridgeTransaction transaction = new BridgeTransaction();
+            transaction.setTransactionId(String.valueOf(firstId + i));
+            transaction.setAccountId(String.valueOf(10_000 + random.nextInt(5)));
+            transaction.setDescription("CB MERCHANT " + random.nextInt(1000) + " PARIS");
+            transaction.setAmount(new BigDecimal(amount(random)));
+            transaction.setCurrency("EUR");
+            transaction.setDate(START_DATE.plusDays(random.nextInt(365)));
+            transaction.setOperationType(OPERATION_TYPES[random.nextInt(OPERATION_TYPES.length)]);
+            transaction.setCategoryId(200 + random.nextInt(100));
+            transaction.setIsDeleted(false);
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    static String amount(Random random) {
+        return String.format(Locale.ROOT, "%.2f", (random.nextDouble() - 0.8) * 500);
+    }
+}
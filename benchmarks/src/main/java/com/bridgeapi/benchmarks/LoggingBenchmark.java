@@ -0,0 +1,136 @@
+package com.bridgeapi.benchmarks;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.FileAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import com.bridgeapi.config.DebugSamplingFilter;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import net.logstash.logback.argument.StructuredArguments;
+import net.logstash.logback.encoder.LogstashEncoder;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logging cost of one 10k-transaction sync, written to a real file: one INFO line per row (previous behaviour)
+ * against one summary event plus per-row DEBUG statements, which are disabled at INFO and sampled at DEBUG.
+ * The async variants block instead of dropping events so both sides write the same lines.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoggingBenchmark {
+
+    private static final String TEXT_PATTERN = "%d{yyyy-MM-dd'T'HH:mm:ss.SSSXXX} %5p --- [%t] %-40.40logger{39} : %m%n";
+
+    @Param({"10000"})
+    private int transactions;
+
+    @Param({"text", "json"})
+    private String format;
+
+    @Param({"false", "true"})
+    private boolean async;
+
+    @Param({"INFO", "DEBUG"})
+    private String level;
+
+    @Param({"100"})
+    private int debugSampleRate;
+
+    private LoggerContext context;
+    private Logger logger;
+    private Path logFile;
+    private List<BridgeTransaction> batch;
+
+    @Setup
+    public void setUp() throws IOException {
+        batch = BenchmarkData.transactions(1, transactions);
+        logFile = Files.createTempFile("bridge-logging-benchmark", ".log");
+
+        context = new LoggerContext();
+        DebugSamplingFilter samplingFilter = new DebugSamplingFilter();
+        samplingFilter.setRate(debugSampleRate);
+        samplingFilter.setLoggerPrefix("com.bridgeapi");
+        samplingFilter.setContext(context);
+        samplingFilter.start();
+        context.addTurboFilter(samplingFilter);
+
+        FileAppender<ILoggingEvent> file = new FileAppender<>();
+        file.setContext(context);
+        file.setFile(logFile.toString());
+        file.setEncoder(encoder());
+        file.start();
+
+        Appender<ILoggingEvent> appender = file;
+        if (async) {
+            AsyncAppender asyncAppender = new AsyncAppender();
+            asyncAppender.setContext(context);
+            asyncAppender.setQueueSize(8192);
+            asyncAppender.setDiscardingThreshold(0);
+            asyncAppender.setNeverBlock(false);
+            asyncAppender.addAppender(file);
+            asyncAppender.start();
+            appender = asyncAppender;
+        }
+
+        logger = context.getLogger("com.bridgeapi.service.BridgeDataService");
+        logger.setLevel(Level.toLevel(level));
+        logger.setAdditive(false);
+        logger.addAppender(appender);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.stop();
+        Files.deleteIfExists(logFile);
+    }
+
+    @Benchmark
+    public int perRowInfo() {
+        for (BridgeTransaction transaction : batch) {
+            logger.info("Transaction saved: {}", transaction.getTransactionId());
+        }
+        return batch.size();
+    }
+
+    @Benchmark
+    public int summaryWithSampledDebug() {
+        long start = System.nanoTime();
+        for (BridgeTransaction transaction : batch) {
+            logger.debug("Transaction mapped: {}", transaction.getTransactionId());
+        }
+        logger.info("Data sync completed {} {} {}",
+                StructuredArguments.kv("user_uuid", "c2a1e2b4-0000-4000-8000-000000000001"),
+                StructuredArguments.kv("transactions_inserted", batch.size()),
+                StructuredArguments.kv("duration_ms", (System.nanoTime() - start) / 1_000_000));
+        return batch.size();
+    }
+
+    private Encoder<ILoggingEvent> encoder() {
+        if ("json".equals(format)) {
+            LogstashEncoder encoder = new LogstashEncoder();
+            encoder.setContext(context);
+            encoder.start();
+            return encoder;
+        }
+        PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+        encoder.setContext(context);
+        encoder.setPattern(TEXT_PATTERN);
+        encoder.start();
+        return encoder;
+    }
+}
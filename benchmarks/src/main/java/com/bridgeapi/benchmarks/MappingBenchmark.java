@@ -0,0 +1,141 @@
+package com.bridgeapi.benchmarks;
+
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.bridgeapi.service.BridgeResourceMapper;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One transactions page to entities: the tree model used by BridgeDataService against a hand-written
+ * streaming parser and plain databind into a DTO.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MappingBenchmark {
+
+    @Param({"50", "500"})
+    private int pageSize;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final BridgeResourceMapper resourceMapper = new BridgeResourceMapper();
+    private ObjectReader pageReader;
+    private byte[] page;
+
+    @Setup
+    public void setUp() {
+        page = BenchmarkData.transactionPage(pageSize);
+        pageReader = objectMapper.readerFor(TransactionPageDto.class);
+    }
+
+    @Benchmark
+    public List<BridgeTransaction> treeModel() throws IOException {
+        JsonNode resources = objectMapper.readTree(page).get("resources");
+        List<BridgeTransaction> transactions = new ArrayList<>(resources.size());
+        resources.forEach(node -> transactions.add(resourceMapper.mapTransaction(node)));
+        return transactions;
+    }
+
+    @Benchmark
+    public List<BridgeTransaction> streaming() throws IOException {
+        List<BridgeTransaction> transactions = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(page)) {
+            while (parser.nextToken() != null) {
+                if (parser.currentToken() == JsonToken.FIELD_NAME && "resources".equals(parser.currentName())) {
+                    parser.nextToken();
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        transactions.add(readTransaction(parser));
+                    }
+                }
+            }
+        }
+        return transactions;
+    }
+
+    @Benchmark
+    public List<BridgeTransaction> databind() throws IOException {
+        TransactionPageDto dto = pageReader.readValue(page);
+        List<BridgeTransaction> transactions = new ArrayList<>(dto.resources.size());
+        for (TransactionDto resource : dto.resources) {
+            BridgeTransaction transaction = new BridgeTransaction();
+            transaction.setTransactionId(String.valueOf(resource.id));
+            transaction.setAccountId(String.valueOf(resource.accountId));
+            transaction.setDescription(resource.description);
+            transaction.setAmount(resource.amount);
+            transaction.setCurrency(resource.currency);
+            transaction.setDate(LocalDate.parse(resource.date));
+            transaction.setOperationType(resource.operationType);
+            transaction.setCategoryId(resource.categoryId);
+            transaction.setIsDeleted(resource.deleted);
+            transaction.setBridgeUpdatedAt(resource.updatedAt != null ? Instant.parse(resource.updatedAt) : null);
+            transactions.add(transaction);
+        }
+        return transactions;
+    }
+
+    private BridgeTransaction readTransaction(JsonParser parser) throws IOException {
+        BridgeTransaction transaction = new BridgeTransaction();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (value == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            switch (field) {
+                case "id" -> transaction.setTransactionId(parser.getText());
+                case "account_id" -> transaction.setAccountId(parser.getText());
+                case "description" -> transaction.setDescription(parser.getText());
+                case "amount" -> transaction.setAmount(parser.getDecimalValue());
+                case "currency" -> transaction.setCurrency(parser.getText());
+                case "date" -> transaction.setDate(LocalDate.parse(parser.getText()));
+                case "operation_type" -> transaction.setOperationType(parser.getText());
+                case "category_id" -> transaction.setCategoryId(parser.getIntValue());
+                case "is_deleted" -> transaction.setIsDeleted(parser.getBooleanValue());
+                case "updated_at" -> transaction.setBridgeUpdatedAt(Instant.parse(parser.getText()));
+                default -> parser.skipChildren();
+            }
+        }
+        return transaction;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TransactionPageDto {
+        public List<TransactionDto> resources;
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class TransactionDto {
+        public long id;
+        @JsonProperty("account_id")
+        public long accountId;
+        public String description;
+        public BigDecimal amount;
+        public String currency;
+        public String date;
+        @JsonProperty("operation_type")
+        public String operationType;
+        @JsonProperty("category_id")
+        public Integer categoryId;
+        @JsonProperty("is_deleted")
+        public Boolean deleted;
+        @JsonProperty("updated_at")
+        public String updatedAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.bridgeapi.benchmarks;
+
+import com.bridgeapi.config.BridgeSyncConfig;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.bridgeapi.repository.BridgeTransactionBatchRepository;
+import com.bridgeapi.repository.BridgeTransactionRepository;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * Persistence slice of the application: JPA repositories and the JDBC batch repository, nothing that
+ * talks to Bridge or schedules work.
+ */
+@SpringBootConfiguration
+@EnableAutoConfiguration
+@EntityScan(basePackageClasses = BridgeTransaction.class)
+@EnableJpaRepositories(basePackageClasses = BridgeTransactionRepository.class)
+@Import({BridgeTransactionBatchRepository.class, BridgeSyncConfig.class})
+public class PersistenceBenchmarkApplication {
+}
@@ -0,0 +1,104 @@
+package com.bridgeapi.benchmarks;
+
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.bridgeapi.repository.BridgeTransactionBatchRepository;
+import com.bridgeapi.repository.BridgeTransactionRepository;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writing one page of transactions: per-row JPA save() (the previous sync path) against the unnest
+ * upsert of BridgeTransactionBatchRepository, on an embedded PostgreSQL started by the benchmark.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TransactionPersistenceBenchmark {
+
+    @Param({"100", "500"})
+    private int batchSize;
+
+    private final AtomicLong nextId = new AtomicLong(1);
+
+    private EmbeddedPostgres postgres;
+    private ConfigurableApplicationContext context;
+    private BridgeTransactionRepository transactionRepository;
+    private BridgeTransactionBatchRepository batchRepository;
+    private TransactionTemplate transactionTemplate;
+    private JdbcTemplate jdbcTemplate;
+    private List<BridgeTransaction> existingBatch;
+
+    @Setup(Level.Trial)
+    public void startDatabase() throws IOException {
+        postgres = EmbeddedPostgres.builder().start();
+
+        context = new SpringApplicationBuilder(PersistenceBenchmarkApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        // The entity maps the uuid id as a String, let the server infer the type of the bound parameter
+                        "spring.datasource.url=" + postgres.getJdbcUrl("postgres", "postgres") + "&stringtype=unspecified",
+                        "spring.datasource.username=postgres",
+                        "spring.datasource.password=",
+                        "bridge.sync.batch-size=" + batchSize,
+                        "logging.level.com.bridgeapi=WARN")
+                .run();
+
+        transactionRepository = context.getBean(BridgeTransactionRepository.class);
+        batchRepository = context.getBean(BridgeTransactionBatchRepository.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        String schema = new ClassPathResource("schema.sql").getContentAsString(StandardCharsets.UTF_8);
+        jdbcTemplate.execute(schema);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE bridge_transactions, bridge_transaction_keys");
+        existingBatch = BenchmarkData.transactions(nextId.getAndAdd(batchSize), batchSize);
+        transactionTemplate.execute(status -> batchRepository.upsertAll(existingBatch));
+    }
+
+    @TearDown(Level.Trial)
+    public void stopDatabase() throws IOException {
+        context.close();
+        postgres.close();
+    }
+
+    @Benchmark
+    public List<BridgeTransaction> perRowSave() {
+        List<BridgeTransaction> batch = BenchmarkData.transactions(nextId.getAndAdd(batchSize), batchSize);
+        return transactionTemplate.execute(status -> {
+            batch.forEach(transactionRepository::save);
+            return batch;
+        });
+    }
+
+    @Benchmark
+    public UpsertResult batchedUpsertNewRows() {
+        List<BridgeTransaction> batch = BenchmarkData.transactions(nextId.getAndAdd(batchSize), batchSize);
+        return transactionTemplate.execute(status -> batchRepository.upsertAll(batch));
+    }
+
+    // A re-sync of an unchanged page: every row hits ON CONFLICT and is skipped by the IS DISTINCT FROM guard
+    @Benchmark
+    public UpsertResult batchedUpsertUnchangedRows() {
+        return transactionTemplate.execute(status -> batchRepository.upsertAll(existingBatch));
+    }
+}
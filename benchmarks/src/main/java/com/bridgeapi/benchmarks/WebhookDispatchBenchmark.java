@@ -0,0 +1,75 @@
+package com.bridgeapi.benchmarks;
+
+import com.bridgeapi.model.dto.WebhookEvent;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.repository.BridgeItemRepository;
+import com.bridgeapi.service.WebhookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dispatch overhead of a queued webhook: payload round trip through the outbox JSON, the WebhookService
+ * switch and the worker pool hand-off. The item lookup is stubbed so only the in-process path is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WebhookDispatchBenchmark {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private WebhookService webhookService;
+    private ExecutorService workers;
+    private String payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        BridgeItemRepository itemRepository = (BridgeItemRepository) Proxy.newProxyInstance(
+                BridgeItemRepository.class.getClassLoader(),
+                new Class<?>[]{BridgeItemRepository.class},
+                (proxy, method, args) -> method.getName().equals("findByItemId") ? Optional.<BridgeItem>empty() : null);
+        webhookService = new WebhookService(itemRepository, null, null, ObservationRegistry.NOOP);
+        workers = Executors.newFixedThreadPool(4);
+
+        WebhookEvent event = new WebhookEvent();
+        event.setType("item.status.updated");
+        event.setItemId(123456);
+        event.setUserUuid("c2a1e2b4-0000-4000-8000-000000000001");
+        event.setStatus("0");
+        event.setStatusCodeInfo("OK");
+        payload = objectMapper.writeValueAsString(event);
+    }
+
+    @TearDown
+    public void tearDown() {
+        workers.shutdown();
+    }
+
+    @Benchmark
+    public WebhookEvent deserializeAndHandle() throws Exception {
+        WebhookEvent event = objectMapper.readValue(payload, WebhookEvent.class);
+        webhookService.handleWebhook(event);
+        return event;
+    }
+
+    @Benchmark
+    public Object dispatchToWorker() throws Exception {
+        return CompletableFuture.runAsync(() -> {
+            try {
+                webhookService.handleWebhook(objectMapper.readValue(payload, WebhookEvent.class));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }, workers).get();
+    }
+}
@@ -0,0 +1,43 @@
+-- bridge_transactions and bridge_transaction_keys as created by supabase/migrations, without RLS.
+-- Monthly partitions cover the dates generated by BenchmarkData (2024-01-01 and the following 365 days).
+CREATE TABLE IF NOT EXISTS bridge_transactions (
+    id uuid NOT NULL DEFAULT gen_random_uuid(),
+    transaction_id text NOT NULL,
+    account_id text NOT NULL,
+    description text NOT NULL,
+    amount numeric NOT NULL,
+    currency text,
+    date date NOT NULL,
+    operation_type text,
+    category_id integer,
+    category_name text,
+    is_deleted boolean DEFAULT false,
+    created_at timestamptz DEFAULT now(),
+    updated_at timestamptz DEFAULT now(),
+    CONSTRAINT bridge_transactions_pkey PRIMARY KEY (id, date),
+    CONSTRAINT bridge_transactions_transaction_id_date_key UNIQUE (transaction_id, date)
+) PARTITION BY RANGE (date);
+
+CREATE TABLE IF NOT EXISTS bridge_transactions_default PARTITION OF bridge_transactions DEFAULT;
+
+DO $$
+DECLARE
+    month_start date;
+BEGIN
+    FOR month_start IN SELECT generate_series(date '2024-01-01', date '2025-01-01', interval '1 month')::date LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS %I PARTITION OF bridge_transactions FOR VALUES FROM (%L) TO (%L)',
+            'bridge_transactions_' || to_char(month_start, 'YYYYMM'), month_start,
+            (month_start + interval '1 month')::date);
+    END LOOP;
+END;
+$$;
+
+CREATE INDEX IF NOT EXISTS idx_bridge_transactions_account_keyset
+    ON bridge_transactions(account_id, date DESC, transaction_id DESC)
+    INCLUDE (description, amount, currency, operation_type, category_id, category_name, is_deleted);
+
+CREATE TABLE IF NOT EXISTS bridge_transaction_keys (
+    transaction_id text PRIMARY KEY,
+    account_id text NOT NULL,
+    date date NOT NULL
+);
@@ -0,0 +1,64 @@
+#!/bin/bash
+# Runs the dashboard load test against the platform-thread build and the java21/virtual-threads build
+# and prints latency plus JVM thread counts for both.
+# Requires k6, jq, a Java 21 JDK and the usual environment variables (.env) for the database and Bridge.
+#
+#   USER_UUID=... ACCOUNT_ID=... ./loadtest/compare-thread-models.sh
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+VUS="${VUS:-2000}"
+RESULTS_DIR="target/loadtest"
+mkdir -p "$RESULTS_DIR"
+
+: "${USER_UUID:?USER_UUID is required}"
+: "${ACCOUNT_ID:?ACCOUNT_ID is required}"
+
+wait_for_app() {
+    for _ in $(seq 1 60); do
+        if curl -sf "$BASE_URL/actuator/health" > /dev/null; then
+            return 0
+        fi
+        sleep 2
+    done
+    echo "Application did not start" >&2
+    exit 1
+}
+
+metric() {
+    curl -s "$BASE_URL/actuator/metrics/$1" | jq -r '.measurements[0].value'
+}
+
+run_mode() {
+    local mode=$1
+    local maven_args=$2
+    local java_args=$3
+
+    echo "=== $mode ==="
+    mvn -q -DskipTests $maven_args clean package
+    java $java_args -jar target/bridge-microservice-1.0.0.jar > "$RESULTS_DIR/$mode-app.log" 2>&1 &
+    local app_pid=$!
+    wait_for_app
+
+    k6 run --quiet \
+        -e BASE_URL="$BASE_URL" -e USER_UUID="$USER_UUID" -e ACCOUNT_ID="$ACCOUNT_ID" -e VUS="$VUS" \
+        --summary-export "$RESULTS_DIR/$mode-summary.json" \
+        loadtest/dashboard-read.js || true
+
+    echo "$mode p95 (ms):        $(jq '.metrics.http_req_duration["p(95)"]' "$RESULTS_DIR/$mode-summary.json")"
+    echo "$mode p99 (ms):        $(jq '.metrics.http_req_duration["p(99)"]' "$RESULTS_DIR/$mode-summary.json")"
+    echo "$mode req/s:           $(jq '.metrics.http_reqs.rate' "$RESULTS_DIR/$mode-summary.json")"
+    echo "$mode failed rate:     $(jq '.metrics.http_req_failed.value' "$RESULTS_DIR/$mode-summary.json")"
+    echo "$mode peak threads:    $(metric jvm.threads.peak)"
+    echo "$mode live threads:    $(metric jvm.threads.live)"
+
+    kill "$app_pid"
+    wait "$app_pid" 2>/dev/null || true
+}
+
+run_mode platform-threads "" ""
+run_mode virtual-threads "-Pjava21" "-Djdk.tracePinnedThreads=short -Dspring.profiles.active=virtual-threads"
+
+echo "Pinned virtual threads reported (jdk.tracePinnedThreads):"
+grep -c "onPinned\|<== monitors" "$RESULTS_DIR/virtual-threads-app.log" || true
@@ -0,0 +1,37 @@
+// Dashboard read load: thousands of concurrent users reading their user, items and transactions.
+// k6 run -e BASE_URL=http://localhost:8080 -e USER_UUID=... -e ACCOUNT_ID=... loadtest/dashboard-read.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USER_UUID = __ENV.USER_UUID;
+const ACCOUNT_ID = __ENV.ACCOUNT_ID;
+const VUS = parseInt(__ENV.VUS || '2000');
+
+export const options = {
+  scenarios: {
+    dashboard: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    http_req_duration: ['p(95)<1000'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export default function () {
+  const responses = http.batch([
+    ['GET', `${BASE_URL}/api/bridge/users/${USER_UUID}`],
+    ['GET', `${BASE_URL}/api/bridge/data/items/${USER_UUID}`],
+    ['GET', `${BASE_URL}/api/bridge/data/transactions/${ACCOUNT_ID}`],
+  ]);
+  responses.forEach((res) => check(res, { 'status is 200': (r) => r.status === 200 }));
+}
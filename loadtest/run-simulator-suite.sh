@@ -0,0 +1,44 @@
+#!/bin/bash
+# Load-test suite against an instance started with the simulator profile:
+#   SPRING_PROFILES_ACTIVE=simulator mvn spring-boot:run
+# Runs the sync scenario, a webhook burst and the dashboard read scenario, then prints p50/p99 latency
+# and throughput for each. Requires k6 and jq.
+
+set -euo pipefail
+
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+RESULTS_DIR="target/loadtest"
+mkdir -p "$RESULTS_DIR"
+
+report() {
+    local name=$1
+    local file=$2
+    local metric=$3
+    echo "$name: p50=$(jq ".metrics.${metric}[\"p(50)\"]" "$file") ms" \
+        "p99=$(jq ".metrics.${metric}[\"p(99)\"]" "$file") ms" \
+        "throughput=$(jq '.metrics.http_reqs.rate' "$file") req/s" \
+        "errors=$(jq '.metrics.http_req_failed.value' "$file")"
+}
+
+echo "=== Sync scenario ==="
+k6 run --quiet -e BASE_URL="$BASE_URL" --summary-export "$RESULTS_DIR/sync-summary.json" loadtest/sync.js || true
+
+echo "=== Webhook burst ==="
+curl -s -X POST "$BASE_URL/simulator/webhooks/burst?count=${WEBHOOK_BURST:-1000}&concurrency=50" | jq '.'
+curl -s "$BASE_URL/api/bridge/webhooks/queue" | jq '.'
+
+echo "=== Dashboard reads ==="
+USER_UUID=$(curl -s -X POST "$BASE_URL/api/bridge/users" -H "Content-Type: application/json" \
+        -d "{\"email\": \"loadtest-reader-$(date +%s)@example.com\"}" | jq -r '.bridgeUuid')
+TOKEN=$(curl -s -X POST "$BASE_URL/api/bridge/users/$USER_UUID/auth-token" | jq -r '.access_token')
+curl -s -X POST "$BASE_URL/api/bridge/data/sync/$USER_UUID" -H "Authorization: Bearer $TOKEN" > /dev/null
+ITEM_ID=$(curl -s "$BASE_URL/api/bridge/data/items/$USER_UUID" | jq -r '.[0].itemId')
+ACCOUNT_ID=$(curl -s "$BASE_URL/api/bridge/data/accounts/$ITEM_ID" | jq -r '.[0].accountId')
+
+k6 run --quiet -e BASE_URL="$BASE_URL" -e USER_UUID="$USER_UUID" -e ACCOUNT_ID="$ACCOUNT_ID" -e VUS="${READ_VUS:-500}" \
+    --summary-export "$RESULTS_DIR/read-summary.json" loadtest/dashboard-read.js || true
+
+echo "=== Results ==="
+report "sync (POST /sync/{userUuid})" "$RESULTS_DIR/sync-summary.json" sync_duration
+report "reads during sync" "$RESULTS_DIR/sync-summary.json" read_duration
+report "dashboard reads" "$RESULTS_DIR/read-summary.json" http_req_duration
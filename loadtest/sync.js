@@ -0,0 +1,64 @@
+// Sync load against the simulator profile: each VU creates its own Bridge user, then repeatedly runs a
+// full sync and reads its data back.
+// k6 run -e BASE_URL=http://localhost:8080 loadtest/sync.js
+import http from 'k6/http';
+import { check } from 'k6';
+import { Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '20');
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+const syncDuration = new Trend('sync_duration', true);
+const readDuration = new Trend('read_duration', true);
+
+export const options = {
+  scenarios: {
+    sync: {
+      executor: 'constant-vus',
+      vus: VUS,
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.05'],
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+const users = {};
+
+function userForVu() {
+  if (!users[__VU]) {
+    const created = http.post(`${BASE_URL}/api/bridge/users`,
+      JSON.stringify({ email: `loadtest-${__VU}-${Date.now()}@example.com` }), JSON_HEADERS);
+    check(created, { 'user created': (r) => r.status === 200 || r.status === 201 });
+    const uuid = created.json('bridgeUuid');
+    const token = http.post(`${BASE_URL}/api/bridge/users/${uuid}/auth-token`).json('access_token');
+    users[__VU] = { uuid, token };
+  }
+  return users[__VU];
+}
+
+export default function () {
+  const user = userForVu();
+  const auth = { headers: { Authorization: `Bearer ${user.token}` } };
+
+  const sync = http.post(`${BASE_URL}/api/bridge/data/sync/${user.uuid}`, null, auth);
+  check(sync, { 'sync ok': (r) => r.status === 200 });
+  syncDuration.add(sync.timings.duration);
+
+  const items = http.get(`${BASE_URL}/api/bridge/data/items/${user.uuid}`);
+  readDuration.add(items.timings.duration);
+  const itemList = items.status === 200 ? items.json() : [];
+  if (itemList.length > 0) {
+    const accounts = http.get(`${BASE_URL}/api/bridge/data/accounts/${itemList[0].itemId}`);
+    readDuration.add(accounts.timings.duration);
+    const accountList = accounts.status === 200 ? accounts.json() : [];
+    if (accountList.length > 0) {
+      const page = http.get(`${BASE_URL}/api/bridge/data/transactions/${accountList[0].accountId}/page?limit=100`);
+      check(page, { 'page ok': (r) => r.status === 200 });
+      readDuration.add(page.timings.duration);
+    }
+  }
+}
@@ -4,6 +4,8 @@ import lombok.Data;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
 @Data
 @Configuration
 @ConfigurationProperties(prefix = "bridge.api")
@@ -12,4 +14,62 @@ public class BridgeApiConfig {
     private String clientId;
     private String clientSecret;
     private String version;
+    private TokenCache tokenCache = new TokenCache();
+    private Pool pool = new Pool();
+    private Http http = new Http();
+    private Retry retry = new Retry();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private RateLimit rateLimit = new RateLimit();
+
+    @Data
+    public static class TokenCache {
+        private boolean enabled = true;
+        private Duration refreshBeforeExpiry = Duration.ofMinutes(5);
+        private Duration minRemainingValidity = Duration.ofSeconds(30);
+        private Duration idleTimeout = Duration.ofMinutes(30);
+        private long sweepIntervalMs = 15000;
+    }
+
+    @Data
+    public static class Pool {
+        private int maxConnections = 50;
+        private int pendingAcquireMaxCount = 200;
+        private Duration pendingAcquireTimeout = Duration.ofSeconds(10);
+        private Duration maxIdleTime = Duration.ofSeconds(30);
+        private Duration maxLifeTime = Duration.ofMinutes(5);
+        private Duration evictionInterval = Duration.ofSeconds(30);
+        private boolean metricsEnabled = true;
+    }
+
+    @Data
+    public static class Http {
+        private Duration connectTimeout = Duration.ofSeconds(5);
+        private Duration responseTimeout = Duration.ofSeconds(30);
+        private boolean compression = true;
+        private boolean http2 = true;
+    }
+
+    @Data
+    public static class Retry {
+        private int maxAttempts = 4;
+        private Duration initialBackoff = Duration.ofMillis(500);
+        private Duration maxBackoff = Duration.ofSeconds(10);
+        private Duration maxRetryAfter = Duration.ofSeconds(60);
+    }
+
+    @Data
+    public static class CircuitBreaker {
+        private float failureRateThreshold = 50;
+        private int slidingWindowSize = 50;
+        private int minimumNumberOfCalls = 20;
+        private Duration waitDurationInOpenState = Duration.ofSeconds(30);
+        private int permittedCallsInHalfOpenState = 5;
+    }
+
+    @Data
+    public static class RateLimit {
+        private int limitForPeriod = 50;
+        private Duration refreshPeriod = Duration.ofSeconds(1);
+        private Duration timeout = Duration.ofSeconds(5);
+    }
 }
@@ -0,0 +1,18 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.sync")
+public class BridgeSyncConfig {
+    private int batchSize = 500;
+    private boolean streaming = false;
+    private int pageSize = 500;
+    private int prefetch = 1;
+    private long refreshCoalesceWindowMs = 30000;
+    private int persistenceThreads = 10;
+    private int persistenceQueueSize = 1000;
+}
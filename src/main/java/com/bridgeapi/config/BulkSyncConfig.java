@@ -0,0 +1,17 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.sync.bulk")
+public class BulkSyncConfig {
+    private int maxConcurrentUsers = 8;
+    private int maxConcurrentPerProvider = 2;
+    private long dispatchIntervalMs = 1000;
+    private int maxAttempts = 3;
+    private long retryBackoffMs = 60000;
+    private long leaseTimeoutMs = 1800000;
+}
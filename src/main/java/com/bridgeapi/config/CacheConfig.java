@@ -0,0 +1,50 @@
+package com.bridgeapi.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.util.OptionalLong;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String ITEMS_BY_USER = "itemsByUser";
+    public static final String ACCOUNTS_BY_ITEM = "accountsByItem";
+    public static final String SELECTED_ACCOUNT_BY_ITEM = "selectedAccountByItem";
+
+    public static final String ITEMS_REGION = "bridge-items";
+    public static final String ITEM_NATURAL_IDS_REGION = "bridge-items-natural-ids";
+    public static final String USERS_REGION = "bridge-users";
+    public static final String USER_NATURAL_IDS_REGION = "bridge-users-natural-ids";
+    public static final String USER_QUERIES_REGION = "bridge-user-queries";
+
+    // Hibernate second-level cache regions, in-process Caffeine caches sized and expired per region
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(HibernateCacheConfig hibernateCacheConfig) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+        hibernateCacheConfig.getRegions().forEach((name, region) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            configuration.setMaximumSize(OptionalLong.of(region.getMaximumSize()));
+            if (region.getTtl() != null) {
+                configuration.setExpireAfterWrite(OptionalLong.of(region.getTtl().toNanos()));
+            }
+            configuration.setStatisticsEnabled(true);
+            if (cacheManager.getCache(name) == null) {
+                cacheManager.createCache(name, configuration);
+            }
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put("hibernate.javax.cache.cache_manager", hibernateCacheManager);
+    }
+}
@@ -0,0 +1,45 @@
+package com.bridgeapi.config;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/*
+ * Keeps one DEBUG event out of `rate` per logger under `loggerPrefix`, so per-page and per-row debug
+ * statements stay usable during large syncs. INFO and above are never sampled. Declared in logback-spring.xml.
+ */
+public class DebugSamplingFilter extends TurboFilter {
+
+    private final Map<String, AtomicLong> counters = new ConcurrentHashMap<>();
+
+    private int rate = 1;
+    private String loggerPrefix = "com.bridgeapi";
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        // format is null for isXxxEnabled() checks, which must not consume a sample
+        if (rate <= 1 || level != Level.DEBUG || format == null || !logger.getName().startsWith(loggerPrefix)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (logger.getEffectiveLevel().isGreaterOrEqual(Level.INFO)) {
+            return FilterReply.NEUTRAL;
+        }
+
+        long count = counters.computeIfAbsent(logger.getName(), name -> new AtomicLong()).getAndIncrement();
+        return count % rate == 0 ? FilterReply.NEUTRAL : FilterReply.DENY;
+    }
+
+    public void setRate(int rate) {
+        this.rate = rate;
+    }
+
+    public void setLoggerPrefix(String loggerPrefix) {
+        this.loggerPrefix = loggerPrefix;
+    }
+}
@@ -0,0 +1,16 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.export")
+public class ExportConfig {
+    private int fetchSize = 1000;
+    private Duration timeout = Duration.ofMinutes(30);
+    private int maxConcurrent = 2;
+}
@@ -0,0 +1,24 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.cache.hibernate")
+public class HibernateCacheConfig {
+
+    // Keyed by Hibernate region name, regions not listed here get Caffeine's defaults
+    private Map<String, Region> regions = new LinkedHashMap<>();
+
+    @Data
+    public static class Region {
+        private long maximumSize = 10000;
+        private Duration ttl;
+    }
+}
@@ -0,0 +1,25 @@
+package com.bridgeapi.config;
+
+import com.bridgeapi.model.entity.BridgeWebhookOutbox;
+import com.bridgeapi.repository.BridgeWebhookOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumSet;
+
+// Hikari (hikaricp.*) and the Bridge connection pool (reactor.netty.connection.provider.*) publish their own gauges
+@Configuration
+public class MetricsConfig {
+
+    // Evaluated on scrape, one indexed count per status
+    @Bean
+    public MeterBinder webhookOutboxMetrics(BridgeWebhookOutboxRepository outboxRepository) {
+        return registry -> EnumSet.complementOf(EnumSet.of(BridgeWebhookOutbox.Status.DONE)).forEach(status ->
+                Gauge.builder("bridge.webhook.outbox", () -> outboxRepository.countByStatus(status))
+                        .description("Webhooks waiting in the outbox by status")
+                        .tag("status", status.name())
+                        .register(registry));
+    }
+}
@@ -0,0 +1,13 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.partitions")
+public class PartitionConfig {
+    private int monthsAhead = 3;
+    private int transactionRetentionMonths = 0;
+}
@@ -0,0 +1,30 @@
+package com.bridgeapi.config;
+
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+public class PersistenceConfig {
+
+    // Blocking JPA/JDBC work of the reactive sync pipeline runs here instead of on reactor-netty event loops.
+    // The thread count should not exceed the JDBC pool size, extra work waits in the task queue.
+    // With spring.threads.virtual.enabled on Java 21 each task gets its own virtual thread and the
+    // Hikari pool becomes the only bound: waiting for a connection parks the virtual thread, not a carrier.
+    @Bean(destroyMethod = "dispose")
+    public Scheduler persistenceScheduler(BridgeSyncConfig syncConfig, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("bridge-persistence-");
+            executor.setVirtualThreads(true);
+            return Schedulers.fromExecutor(executor);
+        }
+        return Schedulers.newBoundedElastic(
+                syncConfig.getPersistenceThreads(),
+                syncConfig.getPersistenceQueueSize(),
+                "bridge-persistence");
+    }
+}
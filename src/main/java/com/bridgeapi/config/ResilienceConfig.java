@@ -0,0 +1,44 @@
+package com.bridgeapi.config;
+
+import com.bridgeapi.exception.BridgeApiException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import java.util.concurrent.TimeoutException;
+
+@Configuration
+public class ResilienceConfig {
+
+    @Bean
+    public CircuitBreakerRegistry bridgeCircuitBreakerRegistry(BridgeApiConfig bridgeApiConfig) {
+        BridgeApiConfig.CircuitBreaker config = bridgeApiConfig.getCircuitBreaker();
+
+        // Client errors (400, 404, ...) say nothing about Bridge's health and must not open the circuit
+        return CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .failureRateThreshold(config.getFailureRateThreshold())
+                .slidingWindowSize(config.getSlidingWindowSize())
+                .minimumNumberOfCalls(config.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(config.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(config.getPermittedCallsInHalfOpenState())
+                .recordException(error -> error instanceof BridgeApiException bridgeError
+                        ? bridgeError.isServerError() || bridgeError.isRateLimited()
+                        : error instanceof WebClientRequestException || error instanceof TimeoutException)
+                .build());
+    }
+
+    @Bean
+    public RateLimiter bridgeRateLimiter(BridgeApiConfig bridgeApiConfig) {
+        BridgeApiConfig.RateLimit config = bridgeApiConfig.getRateLimit();
+
+        return RateLimiter.of("bridge-api", RateLimiterConfig.custom()
+                .limitForPeriod(config.getLimitForPeriod())
+                .limitRefreshPeriod(config.getRefreshPeriod())
+                .timeoutDuration(config.getTimeout())
+                .build());
+    }
+}
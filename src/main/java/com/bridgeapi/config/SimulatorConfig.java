@@ -0,0 +1,24 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+@Data
+@Configuration
+@Profile("simulator")
+@ConfigurationProperties(prefix = "bridge.simulator")
+public class SimulatorConfig {
+    private int itemsPerUser = 2;
+    private int accountsPerItem = 3;
+    private int transactionsPerAccount = 1000;
+    private int maxPageSize = 500;
+    private long latencyMs = 50;
+    private long latencyJitterMs = 50;
+    private double errorRate = 0.0;
+    private double rateLimitRate = 0.0;
+    private int retryAfterSeconds = 1;
+    private String webhookTargetUrl = "http://localhost:8080/api/bridge/webhooks";
+    private String webhookSourceIp = "63.32.31.5";
+}
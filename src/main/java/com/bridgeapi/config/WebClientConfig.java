@@ -1,18 +1,58 @@
 package com.bridgeapi.config;
 
+import io.netty.channel.ChannelOption;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.URI;
 
 @Configuration
 public class WebClientConfig {
 
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider bridgeConnectionProvider(BridgeApiConfig bridgeApiConfig) {
+        BridgeApiConfig.Pool pool = bridgeApiConfig.getPool();
+
+        return ConnectionProvider.builder("bridge-api")
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(pool.getPendingAcquireTimeout())
+                .maxIdleTime(pool.getMaxIdleTime())
+                .maxLifeTime(pool.getMaxLifeTime())
+                .evictInBackground(pool.getEvictionInterval())
+                .metrics(pool.isMetricsEnabled())
+                .build();
+    }
+
     @Bean
-    public WebClient webClient(BridgeApiConfig bridgeApiConfig) {
-        return WebClient.builder()
+    public WebClient webClient(WebClient.Builder webClientBuilder, BridgeApiConfig bridgeApiConfig,
+                               ConnectionProvider bridgeConnectionProvider) {
+        BridgeApiConfig.Http http = bridgeApiConfig.getHttp();
+
+        HttpClient httpClient = HttpClient.create(bridgeConnectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) http.getConnectTimeout().toMillis())
+                .responseTimeout(http.getResponseTimeout())
+                .compress(http.isCompression());
+
+        // h2 is negotiated through ALPN and falls back to HTTP/1.1 when the server does not offer it.
+        // ALPN needs TLS: plain http base URLs (local simulator, proxies) stay on HTTP/1.1
+        if (http.isHttp2() && URI.create(bridgeApiConfig.getBaseUrl()).getScheme().equalsIgnoreCase("https")) {
+            httpClient = httpClient
+                    .protocol(HttpProtocol.H2, HttpProtocol.HTTP11)
+                    .secure();
+        }
+
+        // Boot's builder carries the observation registry: each call is timed as http.client.requests and traced
+        return webClientBuilder
                 .baseUrl(bridgeApiConfig.getBaseUrl())
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .defaultHeader("Bridge-Version", bridgeApiConfig.getVersion())
                 .defaultHeader("Client-Id", bridgeApiConfig.getClientId())
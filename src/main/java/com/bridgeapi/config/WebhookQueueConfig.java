@@ -0,0 +1,18 @@
+package com.bridgeapi.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "bridge.webhooks.queue")
+public class WebhookQueueConfig {
+    private int workers = 4;
+    private int capacity = 100;
+    private long pollIntervalMs = 500;
+    private int maxAttempts = 5;
+    private long retryBackoffMs = 5000;
+    private long leaseTimeoutMs = 300000;
+    private int retentionDays = 7;
+}
@@ -1,15 +1,32 @@
 package com.bridgeapi.controller;
 
+import com.bridgeapi.config.ExportConfig;
+import com.bridgeapi.exception.InvalidRequestException;
+import com.bridgeapi.model.dto.BalancePoint;
+import com.bridgeapi.model.dto.SyncReport;
+import com.bridgeapi.model.dto.TransactionAggregate;
+import com.bridgeapi.model.dto.TransactionFilter;
+import com.bridgeapi.model.dto.TransactionPage;
+import com.bridgeapi.model.dto.UpsertResult;
 import com.bridgeapi.model.entity.BridgeAccount;
 import com.bridgeapi.model.entity.BridgeItem;
 import com.bridgeapi.model.entity.BridgeTransaction;
 import com.bridgeapi.service.BridgeDataService;
+import com.bridgeapi.service.TransactionExportService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -19,9 +36,11 @@ import java.util.List;
 public class BridgeDataController {
 
     private final BridgeDataService dataService;
+    private final TransactionExportService exportService;
+    private final ExportConfig exportConfig;
 
     @PostMapping("/sync/{userUuid}")
-    public Mono<ResponseEntity<String>> syncUserData(
+    public Mono<ResponseEntity<SyncReport>> syncUserData(
             @PathVariable String userUuid,
             @RequestHeader("Authorization") String authorization) {
 
@@ -29,11 +48,11 @@ public class BridgeDataController {
         String accessToken = authorization.replace("Bearer ", "");
 
         return dataService.syncUserData(userUuid, accessToken)
-                .then(Mono.just(ResponseEntity.ok("Data sync completed successfully")));
+                .map(ResponseEntity::ok);
     }
 
     @PostMapping("/sync/accounts")
-    public Mono<ResponseEntity<List<BridgeAccount>>> syncAccounts(
+    public Mono<ResponseEntity<UpsertResult>> syncAccounts(
             @RequestHeader("Authorization") String authorization) {
 
         log.info("Syncing accounts");
@@ -44,7 +63,7 @@ public class BridgeDataController {
     }
 
     @PostMapping("/sync/transactions")
-    public Mono<ResponseEntity<List<BridgeTransaction>>> syncTransactions(
+    public Mono<ResponseEntity<UpsertResult>> syncTransactions(
             @RequestHeader("Authorization") String authorization,
             @RequestParam(required = false) String since) {
 
@@ -67,9 +86,81 @@ public class BridgeDataController {
         return ResponseEntity.ok(dataService.getAccountsByItemId(itemId));
     }
 
+    @GetMapping("/accounts/{accountId}/balances")
+    public ResponseEntity<List<BalancePoint>> getBalanceHistory(
+            @PathVariable String accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        log.debug("Fetching balance history for account: {} from {} to {}", accountId, from, to);
+        return ResponseEntity.ok(dataService.getBalanceHistory(accountId, from, to));
+    }
+
     @GetMapping("/transactions/{accountId}")
     public ResponseEntity<List<BridgeTransaction>> getTransactions(@PathVariable String accountId) {
         log.info("Fetching transactions for account: {}", accountId);
         return ResponseEntity.ok(dataService.getTransactionsByAccountId(accountId));
     }
+
+    @GetMapping("/export/transactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(required = false) String userUuid,
+            @RequestParam(required = false) String itemId,
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletRequest request) {
+
+        TransactionExportService.Format exportFormat;
+        try {
+            exportFormat = TransactionExportService.Format.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid format: " + format, e);
+        }
+        TransactionFilter filter = new TransactionFilter(userUuid, itemId, accountId, from, to);
+        log.info("Exporting transactions as {} with filter {}", exportFormat, filter);
+
+        MediaType mediaType = exportFormat == TransactionExportService.Format.CSV
+                ? new MediaType("text", "csv", StandardCharsets.UTF_8)
+                : MediaType.APPLICATION_NDJSON;
+        String fileName = "transactions." + (exportFormat == TransactionExportService.Format.CSV ? "csv" : "ndjson");
+
+        exportService.acquireSlot();
+
+        // The StreamingResponseBody keeps the timeout of this request, other async requests keep the default
+        WebAsyncUtils.getAsyncManager(request).getAsyncWebRequest().setTimeout(exportConfig.getTimeout().toMillis());
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .body(out -> exportService.export(filter, exportFormat, out));
+    }
+
+    @GetMapping("/aggregates/transactions")
+    public ResponseEntity<List<TransactionAggregate>> getTransactionAggregates(
+            @RequestParam(required = false) String userUuid,
+            @RequestParam(required = false) String itemId,
+            @RequestParam(required = false) String accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "month,category") List<String> groupBy,
+            @RequestParam(defaultValue = "rollup") String source) {
+
+        TransactionFilter filter = new TransactionFilter(userUuid, itemId, accountId, from, to);
+        log.debug("Aggregating transactions by {} from {} with filter {}", groupBy, source, filter);
+        return ResponseEntity.ok(dataService.getTransactionAggregates(filter, groupBy, source));
+    }
+
+    @GetMapping("/transactions/{accountId}/page")
+    public ResponseEntity<TransactionPage> getTransactionPage(
+            @PathVariable String accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
+
+        log.debug("Fetching transaction page for account: {} from {} to {}", accountId, from, to);
+        return ResponseEntity.ok(dataService.getTransactionPage(accountId, from, to, limit, cursor));
+    }
 }
@@ -5,6 +5,7 @@ import com.bridgeapi.model.dto.ConnectSessionRequest;
 import com.bridgeapi.model.dto.ConnectSessionResponse;
 import com.bridgeapi.model.dto.CreateUserRequest;
 import com.bridgeapi.model.entity.BridgeUser;
+import com.bridgeapi.service.AuthTokenCache;
 import com.bridgeapi.service.BridgeApiService;
 import com.bridgeapi.service.BridgeUserService;
 import jakarta.validation.Valid;
@@ -22,6 +23,7 @@ public class BridgeUserController {
 
     private final BridgeUserService userService;
     private final BridgeApiService bridgeApiService;
+    private final AuthTokenCache authTokenCache;
 
     @PostMapping
     public Mono<ResponseEntity<BridgeUser>> createUser(@Valid @RequestBody CreateUserRequest request) {
@@ -45,7 +47,7 @@ public class BridgeUserController {
     @PostMapping("/{uuid}/auth-token")
     public Mono<ResponseEntity<AuthTokenResponse>> generateAuthToken(@PathVariable String uuid) {
         log.info("Generating auth token for user: {}", uuid);
-        return bridgeApiService.generateAuthToken(uuid)
+        return authTokenCache.getToken(uuid)
                 .map(ResponseEntity::ok);
     }
 
@@ -0,0 +1,39 @@
+package com.bridgeapi.controller;
+
+import com.bridgeapi.model.dto.BulkSyncJobStatus;
+import com.bridgeapi.model.dto.BulkSyncRequest;
+import com.bridgeapi.model.entity.BridgeBulkSyncJob;
+import com.bridgeapi.service.BulkSyncService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/bridge/data/sync/bulk")
+@RequiredArgsConstructor
+public class BulkSyncController {
+
+    private final BulkSyncService bulkSyncService;
+
+    @PostMapping
+    public ResponseEntity<BulkSyncJobStatus> startBulkSync(@RequestBody(required = false) BulkSyncRequest request) {
+        log.info("Starting bulk sync");
+        BridgeBulkSyncJob job = bulkSyncService.createJob(request != null ? request.getUserUuids() : null);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(bulkSyncService.getStatus(job.getId()));
+    }
+
+    @GetMapping
+    public ResponseEntity<List<BulkSyncJobStatus>> getRecentJobs() {
+        return ResponseEntity.ok(bulkSyncService.getRecentJobs());
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<BulkSyncJobStatus> getJobStatus(@PathVariable String jobId) {
+        return ResponseEntity.ok(bulkSyncService.getStatus(jobId));
+    }
+}
@@ -1,6 +1,8 @@
 package com.bridgeapi.controller;
 
 import com.bridgeapi.model.dto.WebhookEvent;
+import com.bridgeapi.model.dto.WebhookQueueStats;
+import com.bridgeapi.service.WebhookQueueService;
 import com.bridgeapi.service.WebhookService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 public class WebhookController {
 
     private final WebhookService webhookService;
+    private final WebhookQueueService webhookQueueService;
 
     @PostMapping
     public ResponseEntity<String> handleWebhook(
@@ -23,7 +26,7 @@ public class WebhookController {
             HttpServletRequest request) {
 
         String sourceIp = getClientIp(request);
-        log.info("Received webhook from IP: {} with event type: {}", sourceIp, event.getType());
+        log.debug("Received webhook from IP: {} with event type: {}", sourceIp, event.getType());
 
         if (!webhookService.validateWebhookSource(sourceIp)) {
             log.warn("Webhook rejected from unauthorized IP: {}", sourceIp);
@@ -31,15 +34,20 @@ public class WebhookController {
         }
 
         try {
-            webhookService.handleWebhook(event);
-            return ResponseEntity.ok("Webhook processed successfully");
+            webhookQueueService.enqueue(event);
+            return ResponseEntity.ok("Webhook accepted");
         } catch (Exception e) {
-            log.error("Error processing webhook", e);
+            log.error("Error queuing webhook", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body("Error processing webhook: " + e.getMessage());
+                    .body("Error queuing webhook: " + e.getMessage());
         }
     }
 
+    @GetMapping("/queue")
+    public ResponseEntity<WebhookQueueStats> getQueueStats() {
+        return ResponseEntity.ok(webhookQueueService.getStats());
+    }
+
     private String getClientIp(HttpServletRequest request) {
         String xForwardedFor = request.getHeader("X-Forwarded-For");
         if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
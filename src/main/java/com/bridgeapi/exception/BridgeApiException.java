@@ -0,0 +1,28 @@
+package com.bridgeapi.exception;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+@Getter
+public class BridgeApiException extends RuntimeException {
+
+    private final String endpoint;
+    private final int statusCode;
+    private final Duration retryAfter;
+
+    public BridgeApiException(String endpoint, int statusCode, String body, Duration retryAfter) {
+        super("Bridge API error: " + body);
+        this.endpoint = endpoint;
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    public boolean isRateLimited() {
+        return statusCode == 429;
+    }
+
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+}
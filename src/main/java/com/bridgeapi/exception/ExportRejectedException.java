@@ -0,0 +1,8 @@
+package com.bridgeapi.exception;
+
+public class ExportRejectedException extends RuntimeException {
+
+    public ExportRejectedException(String message) {
+        super(message);
+    }
+}
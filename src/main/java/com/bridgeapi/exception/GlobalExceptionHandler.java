@@ -1,11 +1,15 @@
 package com.bridgeapi.exception;
 
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.ClientAbortException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -14,6 +18,73 @@ import java.util.Map;
 @RestControllerAdvice
 public class GlobalExceptionHandler {
 
+    @ExceptionHandler(BridgeApiException.class)
+    public ResponseEntity<Map<String, Object>> handleBridgeApiException(BridgeApiException ex) {
+        log.error("Bridge API call failed on {} with status {}", ex.getEndpoint(), ex.getStatusCode());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Bridge API error");
+        error.put("message", ex.getMessage());
+        error.put("bridge_status", ex.getStatusCode());
+
+        HttpStatus status = ex.isRateLimited() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_GATEWAY;
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler({CallNotPermittedException.class, RequestNotPermitted.class})
+    public ResponseEntity<Map<String, Object>> handleBridgeUnavailable(RuntimeException ex) {
+        log.warn("Bridge API call rejected: {}", ex.getMessage());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Bridge API unavailable");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    @ExceptionHandler(SyncFailedException.class)
+    public ResponseEntity<Map<String, Object>> handleSyncFailedException(SyncFailedException ex) {
+        log.error("Data sync of user {} failed", ex.getReport().getUserUuid(), ex.getCause());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Data sync failed");
+        error.put("message", ex.getMessage());
+        error.put("report", ex.getReport());
+
+        HttpStatus status = ex.getCause() instanceof BridgeApiException bridgeError
+                ? (bridgeError.isRateLimited() ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.BAD_GATEWAY)
+                : HttpStatus.INTERNAL_SERVER_ERROR;
+        return ResponseEntity.status(status).body(error);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<Map<String, Object>> handleInvalidRequestException(InvalidRequestException ex) {
+        log.warn("Invalid request: {}", ex.getMessage());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Invalid request");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(error);
+    }
+
+    @ExceptionHandler(ExportRejectedException.class)
+    public ResponseEntity<Map<String, Object>> handleExportRejectedException(ExportRejectedException ex) {
+        log.warn("Export rejected: {}", ex.getMessage());
+
+        Map<String, Object> error = new HashMap<>();
+        error.put("error", "Export unavailable");
+        error.put("message", ex.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(error);
+    }
+
+    // The client went away, there is nobody left to answer
+    @ExceptionHandler({ClientAbortException.class, AsyncRequestNotUsableException.class})
+    public void handleClientAbort(Exception ex) {
+        log.debug("Client closed the connection: {}", ex.getMessage());
+    }
+
     @ExceptionHandler(RuntimeException.class)
     public ResponseEntity<Map<String, Object>> handleRuntimeException(RuntimeException ex) {
         log.error("Runtime exception occurred", ex);
@@ -0,0 +1,15 @@
+package com.bridgeapi.exception;
+
+import com.bridgeapi.model.dto.SyncReport;
+import lombok.Getter;
+
+@Getter
+public class SyncFailedException extends RuntimeException {
+
+    private final SyncReport report;
+
+    public SyncFailedException(SyncReport report, Throwable cause) {
+        super("Data sync of user " + report.getUserUuid() + " failed: " + cause.getMessage(), cause);
+        this.report = report;
+    }
+}
@@ -0,0 +1,18 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+public class BalancePoint {
+
+    @JsonProperty("recorded_at")
+    private Instant recordedAt;
+
+    private BigDecimal balance;
+}
@@ -0,0 +1,57 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class BulkSyncJobStatus {
+
+    @JsonProperty("job_id")
+    private String jobId;
+
+    private String status;
+
+    @JsonProperty("total_users")
+    private int totalUsers;
+
+    private long pending;
+
+    private long running;
+
+    private long done;
+
+    private long failed;
+
+    @JsonProperty("started_at")
+    private LocalDateTime startedAt;
+
+    @JsonProperty("finished_at")
+    private LocalDateTime finishedAt;
+
+    @JsonProperty("elapsed_seconds")
+    private long elapsedSeconds;
+
+    @JsonProperty("users_per_minute")
+    private double usersPerMinute;
+
+    private List<Failure> failures;
+
+    @Data
+    @AllArgsConstructor
+    public static class Failure {
+
+        @JsonProperty("user_uuid")
+        private String userUuid;
+
+        private String status;
+
+        private int attempts;
+
+        private String error;
+    }
+}
@@ -0,0 +1,14 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkSyncRequest {
+
+    // Empty or missing means every user of bridge_users
+    @JsonProperty("user_uuids")
+    private List<String> userUuids;
+}
@@ -0,0 +1,68 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class SyncReport {
+
+    @JsonProperty("user_uuid")
+    private final String userUuid;
+
+    private final Stage items = new Stage("items");
+
+    private final Stage accounts = new Stage("accounts");
+
+    private final Stage transactions = new Stage("transactions");
+
+    @JsonProperty("duration_ms")
+    private long durationMs;
+
+    public boolean isSuccessful() {
+        return stages().stream().allMatch(stage -> stage.getStatus() == StageStatus.COMMITTED);
+    }
+
+    public List<Stage> stages() {
+        return List.of(items, accounts, transactions);
+    }
+
+    public enum StageStatus {
+        PENDING, COMMITTED, FAILED, SKIPPED
+    }
+
+    // Written by one stage at a time and read once the whole sync has terminated
+    @Data
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class Stage {
+
+        private final String name;
+
+        private StageStatus status = StageStatus.PENDING;
+
+        private int fetched;
+
+        private int inserted;
+
+        private int updated;
+
+        private int unchanged;
+
+        private int batches;
+
+        @JsonProperty("committed_after_ms")
+        private Long committedAfterMs;
+
+        private String error;
+
+        public void record(UpsertResult result) {
+            batches++;
+            fetched += result.total();
+            inserted += result.getInserted();
+            updated += result.getUpdated();
+            unchanged += result.getUnchanged();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+// Dimensions that are not part of the requested grouping stay null and are left out of the JSON
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionAggregate {
+
+    private String month;
+
+    @JsonProperty("account_id")
+    private String accountId;
+
+    @JsonProperty("category_id")
+    private Integer categoryId;
+
+    @JsonProperty("category_name")
+    private String categoryName;
+
+    @JsonProperty("operation_type")
+    private String operationType;
+
+    private BigDecimal total;
+
+    private BigDecimal debit;
+
+    private BigDecimal credit;
+
+    private long count;
+}
@@ -0,0 +1,23 @@
+package com.bridgeapi.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TransactionFilter {
+
+    private String userUuid;
+
+    private String itemId;
+
+    private String accountId;
+
+    private LocalDate from;
+
+    private LocalDate to;
+}
@@ -0,0 +1,28 @@
+package com.bridgeapi.model.dto;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+// Read-only projection of bridge_transactions for paginated queries, no entity is hydrated
+public interface TransactionView {
+
+    String getTransactionId();
+
+    String getAccountId();
+
+    String getDescription();
+
+    BigDecimal getAmount();
+
+    String getCurrency();
+
+    LocalDate getDate();
+
+    String getOperationType();
+
+    Integer getCategoryId();
+
+    String getCategoryName();
+
+    Boolean getIsDeleted();
+}
@@ -0,0 +1,32 @@
+package com.bridgeapi.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UpsertResult {
+
+    private int inserted;
+
+    private int updated;
+
+    private int unchanged;
+
+    public static UpsertResult empty() {
+        return new UpsertResult(0, 0, 0);
+    }
+
+    public UpsertResult plus(UpsertResult other) {
+        return new UpsertResult(
+                inserted + other.inserted,
+                updated + other.updated,
+                unchanged + other.unchanged);
+    }
+
+    public int total() {
+        return inserted + updated + unchanged;
+    }
+}
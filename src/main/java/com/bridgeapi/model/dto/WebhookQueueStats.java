@@ -0,0 +1,31 @@
+package com.bridgeapi.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class WebhookQueueStats {
+
+    private long pending;
+
+    private long processing;
+
+    private long failed;
+
+    @JsonProperty("in_flight")
+    private int inFlight;
+
+    @JsonProperty("worker_queue_size")
+    private int workerQueueSize;
+
+    @JsonProperty("processed_total")
+    private long processedTotal;
+
+    @JsonProperty("retried_total")
+    private long retriedTotal;
+
+    @JsonProperty("failed_total")
+    private long failedTotal;
+}
@@ -42,6 +42,9 @@ public class BridgeAccount {
     @Column
     private String iban;
 
+    @Column(name = "is_selected", nullable = false)
+    private Boolean isSelected = false;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -0,0 +1,74 @@
+package com.bridgeapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bridge_bulk_sync_tasks")
+public class BridgeBulkSyncTask {
+
+    public enum Status {
+        PENDING, RUNNING, DONE, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "job_id", nullable = false)
+    private String jobId;
+
+    @Column(name = "user_uuid", nullable = false)
+    private String userUuid;
+
+    // Comma separated Bridge provider ids of the user's items, used for per-provider concurrency
+    @Column(name = "provider_ids")
+    private String providerIds;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    public List<Integer> providers() {
+        if (providerIds == null || providerIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(providerIds.split(","))
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.bridgeapi.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bridge_sync_state",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"user_uuid", "item_id"}))
+public class BridgeSyncState {
+
+    public static final String ALL_ITEMS = "*";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private String id;
+
+    @Column(name = "user_uuid", nullable = false)
+    private String userUuid;
+
+    @Column(name = "item_id", nullable = false)
+    private String itemId;
+
+    @Column(name = "last_since")
+    private Instant lastSince;
+
+    @Column(name = "updated_at_cursor")
+    private Instant updatedAtCursor;
+
+    @Column(name = "last_synced_at")
+    private LocalDateTime lastSyncedAt;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
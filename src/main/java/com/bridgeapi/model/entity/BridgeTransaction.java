@@ -1,10 +1,12 @@
 package com.bridgeapi.model.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
@@ -12,14 +14,16 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "bridge_transactions")
+// Partitioned by month on date, unique keys must include it
+@Table(name = "bridge_transactions",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"transaction_id", "date"}))
 public class BridgeTransaction {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private String id;
 
-    @Column(nullable = false, unique = true, name = "transaction_id")
+    @Column(nullable = false, name = "transaction_id")
     private String transactionId;
 
     @Column(name = "account_id", nullable = false)
@@ -34,7 +38,7 @@ public class BridgeTransaction {
     @Column
     private String currency;
 
-    @Column
+    @Column(nullable = false)
     private LocalDate date;
 
     @Column(name = "operation_type")
@@ -55,6 +59,10 @@ public class BridgeTransaction {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    @Transient
+    @JsonIgnore
+    private Instant bridgeUpdatedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -0,0 +1,128 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeAccount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BridgeAccountBatchRepository {
+
+    /*
+     * Diffs the incoming accounts against the stored rows and writes only the changed ones, in one statement.
+     * Every CTE reads the same snapshot, so `previous` still holds the balances from before the upsert and a
+     * history row is appended for new accounts and for balances that moved. is_selected is never touched.
+     */
+    private static final String UPSERT_SQL = """
+            WITH incoming AS (
+                SELECT * FROM unnest(?::text[], ?::text[], ?::text[], ?::numeric[], ?::text[], ?::text[],
+                                     ?::text[], ?::text[])
+                    AS t(account_id, item_id, name, balance, currency, type, status, iban)
+            ),
+            previous AS (
+                SELECT a.account_id, a.balance
+                FROM bridge_accounts a
+                JOIN incoming i ON i.account_id = a.account_id
+            ),
+            upserted AS (
+                INSERT INTO bridge_accounts AS a (account_id, item_id, name, balance, currency, type, status, iban)
+                SELECT account_id, item_id, name, balance, currency, type, status, iban FROM incoming
+                ON CONFLICT (account_id) DO UPDATE SET
+                    item_id = EXCLUDED.item_id,
+                    name = EXCLUDED.name,
+                    balance = EXCLUDED.balance,
+                    currency = EXCLUDED.currency,
+                    type = EXCLUDED.type,
+                    status = EXCLUDED.status,
+                    iban = EXCLUDED.iban,
+                    updated_at = now()
+                WHERE (a.item_id, a.name, a.balance, a.currency, a.type, a.status, a.iban)
+                      IS DISTINCT FROM
+                      (EXCLUDED.item_id, EXCLUDED.name, EXCLUDED.balance, EXCLUDED.currency, EXCLUDED.type,
+                       EXCLUDED.status, EXCLUDED.iban)
+                RETURNING a.account_id, a.item_id, a.balance, (xmax = 0) AS inserted
+            ),
+            history AS (
+                INSERT INTO bridge_account_balance_history (account_id, recorded_at, balance)
+                SELECT u.account_id, now(), u.balance
+                FROM upserted u
+                LEFT JOIN previous p ON p.account_id = u.account_id
+                WHERE u.balance IS NOT NULL AND (p.account_id IS NULL OR p.balance IS DISTINCT FROM u.balance)
+                ON CONFLICT (account_id, recorded_at) DO UPDATE SET balance = EXCLUDED.balance
+            )
+            SELECT account_id, item_id, inserted FROM upserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record AccountChanges(UpsertResult result, Set<String> changedItemIds) {
+    }
+
+    @Transactional
+    public AccountChanges upsertAll(Collection<BridgeAccount> accounts) {
+        if (accounts.isEmpty()) {
+            return new AccountChanges(UpsertResult.empty(), Set.of());
+        }
+
+        // A single INSERT ... ON CONFLICT cannot touch the same row twice, keep the last occurrence
+        Map<String, BridgeAccount> unique = new LinkedHashMap<>();
+        accounts.forEach(account -> unique.put(account.getAccountId(), account));
+        List<BridgeAccount> rows = new ArrayList<>(unique.values());
+
+        Set<String> changedItemIds = new HashSet<>();
+        int[] counts = jdbcTemplate.query(con -> prepareUpsert(con, rows), rs -> {
+            int[] result = new int[2];
+            while (rs.next()) {
+                result[rs.getBoolean("inserted") ? 0 : 1]++;
+                changedItemIds.add(rs.getString("item_id"));
+            }
+            return result;
+        });
+
+        UpsertResult result = new UpsertResult(counts[0], counts[1], accounts.size() - counts[0] - counts[1]);
+        log.debug("Upserted {} accounts: {}", accounts.size(), result);
+        return new AccountChanges(result, changedItemIds);
+    }
+
+    private PreparedStatement prepareUpsert(Connection con, List<BridgeAccount> rows) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, textArray(con, rows, BridgeAccount::getAccountId));
+        ps.setArray(2, textArray(con, rows, BridgeAccount::getItemId));
+        ps.setArray(3, textArray(con, rows, BridgeAccount::getName));
+        ps.setArray(4, textArray(con, rows, account -> account.getBalance() != null
+                ? account.getBalance().toPlainString() : null));
+        ps.setArray(5, textArray(con, rows, BridgeAccount::getCurrency));
+        ps.setArray(6, textArray(con, rows, BridgeAccount::getType));
+        ps.setArray(7, textArray(con, rows, BridgeAccount::getStatus));
+        ps.setArray(8, textArray(con, rows, BridgeAccount::getIban));
+        return ps;
+    }
+
+    private Array textArray(Connection con, List<BridgeAccount> rows,
+                            Function<BridgeAccount, Object> column) throws SQLException {
+        String[] values = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object value = column.apply(rows.get(i));
+            values[i] = value != null ? value.toString() : null;
+        }
+        return con.createArrayOf("text", values);
+    }
+}
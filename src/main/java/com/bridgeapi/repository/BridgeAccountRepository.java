@@ -1,6 +1,8 @@
 package com.bridgeapi.repository;
 
+import com.bridgeapi.config.CacheConfig;
 import com.bridgeapi.model.entity.BridgeAccount;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 import java.util.List;
@@ -9,5 +11,12 @@ import java.util.Optional;
 @Repository
 public interface BridgeAccountRepository extends JpaRepository<BridgeAccount, String> {
     Optional<BridgeAccount> findByAccountId(String accountId);
+
+    @Cacheable(cacheNames = CacheConfig.ACCOUNTS_BY_ITEM, key = "#p0")
     List<BridgeAccount> findByItemId(String itemId);
+
+    @Cacheable(cacheNames = CacheConfig.SELECTED_ACCOUNT_BY_ITEM, key = "#p0")
+    Optional<BridgeAccount> findByItemIdAndIsSelectedTrue(String itemId);
+
+    boolean existsByItemIdAndIsSelectedTrue(String itemId);
 }
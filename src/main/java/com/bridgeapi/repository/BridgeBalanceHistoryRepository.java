@@ -0,0 +1,35 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.dto.BalancePoint;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BridgeBalanceHistoryRepository {
+
+    // The range on recorded_at prunes the scan to the monthly partitions it overlaps
+    private static final String HISTORY_SQL = """
+            SELECT recorded_at, balance
+            FROM bridge_account_balance_history
+            WHERE account_id = ? AND recorded_at >= ? AND recorded_at < ?
+            ORDER BY recorded_at
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public List<BalancePoint> findByAccountId(String accountId, Instant from, Instant to) {
+        return jdbcTemplate.query(HISTORY_SQL,
+                (rs, rowNum) -> new BalancePoint(rs.getTimestamp("recorded_at").toInstant(), rs.getBigDecimal("balance")),
+                accountId, Timestamp.from(from), Timestamp.from(to));
+    }
+
+    public void ensurePartitions(int monthsAhead) {
+        jdbcTemplate.queryForList("SELECT bridge_ensure_balance_history_partitions(?)", monthsAhead);
+    }
+}
@@ -0,0 +1,24 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeBulkSyncJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.List;
+
+@Repository
+public interface BridgeBulkSyncJobRepository extends JpaRepository<BridgeBulkSyncJob, String> {
+
+    List<BridgeBulkSyncJob> findTop20ByOrderByCreatedAtDesc();
+
+    @Modifying
+    @Query(value = """
+            UPDATE bridge_bulk_sync_jobs j SET status = 'COMPLETED', finished_at = now()
+            WHERE j.status = 'RUNNING'
+              AND NOT EXISTS (
+                  SELECT 1 FROM bridge_bulk_sync_tasks t
+                  WHERE t.job_id = CAST(j.id AS text) AND t.status IN ('PENDING', 'RUNNING'))
+            """, nativeQuery = true)
+    int completeFinishedJobs();
+}
@@ -0,0 +1,35 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeBulkSyncTask;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BridgeBulkSyncTaskRepository extends JpaRepository<BridgeBulkSyncTask, String> {
+
+    @Query(value = """
+            SELECT t.* FROM bridge_bulk_sync_tasks t
+            JOIN bridge_bulk_sync_jobs j ON CAST(j.id AS text) = t.job_id
+            WHERE j.status = 'RUNNING' AND t.status = 'PENDING' AND t.next_attempt_at <= :now
+            ORDER BY t.created_at
+            LIMIT :limit
+            FOR UPDATE OF t SKIP LOCKED
+            """, nativeQuery = true)
+    List<BridgeBulkSyncTask> lockPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByJobIdAndStatus(String jobId, BridgeBulkSyncTask.Status status);
+
+    List<BridgeBulkSyncTask> findTop100ByJobIdAndLastErrorIsNotNullOrderByFinishedAtDesc(String jobId);
+
+    @Modifying
+    @Query(value = """
+            UPDATE bridge_bulk_sync_tasks SET status = 'PENDING', locked_at = NULL
+            WHERE status = 'RUNNING' AND locked_at < :before
+            """, nativeQuery = true)
+    int releaseStale(@Param("before") LocalDateTime before);
+}
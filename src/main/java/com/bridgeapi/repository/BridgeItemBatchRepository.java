@@ -0,0 +1,105 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BridgeItemBatchRepository {
+
+    /*
+     * Same shape as the transaction upsert: one statement, unchanged items are not rewritten.
+     * The ids of updated rows are returned because this write bypasses Hibernate's second-level cache.
+     */
+    private static final String UPSERT_SQL = """
+            INSERT INTO bridge_items AS i (item_id, user_uuid, provider_id, status, status_code_info,
+                                           status_code_description)
+            SELECT * FROM unnest(?::text[], ?::text[], ?::integer[], ?::text[], ?::text[], ?::text[])
+            ON CONFLICT (item_id) DO UPDATE SET
+                user_uuid = EXCLUDED.user_uuid,
+                provider_id = EXCLUDED.provider_id,
+                status = EXCLUDED.status,
+                status_code_info = EXCLUDED.status_code_info,
+                status_code_description = EXCLUDED.status_code_description,
+                updated_at = now()
+            WHERE (i.user_uuid, i.provider_id, i.status, i.status_code_info, i.status_code_description)
+                  IS DISTINCT FROM
+                  (EXCLUDED.user_uuid, EXCLUDED.provider_id, EXCLUDED.status, EXCLUDED.status_code_info,
+                   EXCLUDED.status_code_description)
+            RETURNING i.id, (xmax = 0) AS inserted
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record ItemChanges(UpsertResult result, Set<String> updatedIds) {
+    }
+
+    @Transactional
+    public ItemChanges upsertAll(Collection<BridgeItem> items) {
+        if (items.isEmpty()) {
+            return new ItemChanges(UpsertResult.empty(), Set.of());
+        }
+
+        Map<String, BridgeItem> unique = new LinkedHashMap<>();
+        items.forEach(item -> unique.put(item.getItemId(), item));
+        List<BridgeItem> rows = new ArrayList<>(unique.values());
+
+        Set<String> updatedIds = new HashSet<>();
+        int[] counts = jdbcTemplate.query(con -> prepareUpsert(con, rows), rs -> {
+            int[] result = new int[2];
+            while (rs.next()) {
+                if (rs.getBoolean("inserted")) {
+                    result[0]++;
+                } else {
+                    result[1]++;
+                    updatedIds.add(rs.getString("id"));
+                }
+            }
+            return result;
+        });
+
+        UpsertResult result = new UpsertResult(counts[0], counts[1], items.size() - counts[0] - counts[1]);
+        log.debug("Upserted {} items: {}", items.size(), result);
+        return new ItemChanges(result, updatedIds);
+    }
+
+    private PreparedStatement prepareUpsert(Connection con, List<BridgeItem> rows) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, textArray(con, rows, BridgeItem::getItemId));
+        ps.setArray(2, textArray(con, rows, BridgeItem::getUserUuid));
+        ps.setArray(3, textArray(con, rows, BridgeItem::getProviderId));
+        ps.setArray(4, textArray(con, rows, BridgeItem::getStatus));
+        ps.setArray(5, textArray(con, rows, BridgeItem::getStatusCodeInfo));
+        ps.setArray(6, textArray(con, rows, BridgeItem::getStatusCodeDescription));
+        return ps;
+    }
+
+    private Array textArray(Connection con, List<BridgeItem> rows,
+                            Function<BridgeItem, Object> column) throws SQLException {
+        String[] values = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object value = column.apply(rows.get(i));
+            values[i] = value != null ? value.toString() : null;
+        }
+        return con.createArrayOf("text", values);
+    }
+}
@@ -1,13 +1,18 @@
 package com.bridgeapi.repository;
 
+import com.bridgeapi.config.CacheConfig;
 import com.bridgeapi.model.entity.BridgeItem;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
-public interface BridgeItemRepository extends JpaRepository<BridgeItem, String> {
-    Optional<BridgeItem> findByItemId(String itemId);
+public interface BridgeItemRepository extends JpaRepository<BridgeItem, String>, BridgeItemRepositoryCustom {
+
+    @Cacheable(cacheNames = CacheConfig.ITEMS_BY_USER, key = "#p0")
     List<BridgeItem> findByUserUuid(String userUuid);
+
+    List<BridgeItem> findByUserUuidIn(Collection<String> userUuids);
 }
@@ -0,0 +1,10 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeItem;
+
+import java.util.Optional;
+
+public interface BridgeItemRepositoryCustom {
+
+    Optional<BridgeItem> findByItemId(String itemId);
+}
@@ -0,0 +1,39 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeSyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface BridgeSyncStateRepository extends JpaRepository<BridgeSyncState, String> {
+
+    Optional<BridgeSyncState> findByUserUuidAndItemId(String userUuid, String itemId);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO bridge_sync_state (user_uuid, item_id, updated_at_cursor)
+            VALUES (:userUuid, :itemId, :cursor)
+            ON CONFLICT (user_uuid, item_id) DO UPDATE SET
+                updated_at_cursor = GREATEST(bridge_sync_state.updated_at_cursor, EXCLUDED.updated_at_cursor),
+                updated_at = now()
+            """, nativeQuery = true)
+    int advanceCursor(@Param("userUuid") String userUuid,
+                      @Param("itemId") String itemId,
+                      @Param("cursor") Instant cursor);
+
+    @Modifying
+    @Query(value = """
+            INSERT INTO bridge_sync_state (user_uuid, item_id, last_synced_at)
+            VALUES (:userUuid, :itemId, now())
+            ON CONFLICT (user_uuid, item_id) DO UPDATE SET
+                last_since = COALESCE(bridge_sync_state.updated_at_cursor, bridge_sync_state.last_since),
+                last_synced_at = now(),
+                updated_at = now()
+            """, nativeQuery = true)
+    int completeSync(@Param("userUuid") String userUuid, @Param("itemId") String itemId);
+}
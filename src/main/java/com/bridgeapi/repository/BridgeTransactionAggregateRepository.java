@@ -0,0 +1,117 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.dto.TransactionAggregate;
+import com.bridgeapi.model.dto.TransactionFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BridgeTransactionAggregateRepository {
+
+    public enum Dimension {
+        MONTH, ACCOUNT, CATEGORY, OPERATION_TYPE
+    }
+
+    public enum Source {
+        ROLLUP, LIVE
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /*
+     * ROLLUP reads bridge_transaction_rollups, maintained per (account, month) by the sync batches, and is
+     * therefore month-granular: from/to select whole months. LIVE runs the same GROUP BY on
+     * bridge_transactions and honours exact dates.
+     */
+    @Transactional(readOnly = true)
+    public List<TransactionAggregate> aggregate(TransactionFilter filter, Collection<Dimension> dimensions, Source source) {
+        boolean rollup = source == Source.ROLLUP;
+        String month = rollup ? "r.month" : "date_trunc('month', r.date)::date";
+
+        List<String> groupBy = new ArrayList<>();
+        StringBuilder sql = new StringBuilder("SELECT ");
+        sql.append(dimensions.contains(Dimension.MONTH) ? "to_char(" + month + ", 'YYYY-MM')" : "NULL").append(" AS month, ");
+        sql.append(dimensions.contains(Dimension.ACCOUNT) ? "r.account_id" : "NULL").append(" AS account_id, ");
+        sql.append(dimensions.contains(Dimension.CATEGORY) ? "r.category_id" : "NULL").append(" AS category_id, ");
+        sql.append(dimensions.contains(Dimension.CATEGORY) ? "max(r.category_name)" : "NULL").append(" AS category_name, ");
+        sql.append(dimensions.contains(Dimension.OPERATION_TYPE) ? "r.operation_type" : "NULL").append(" AS operation_type, ");
+        if (rollup) {
+            sql.append("""
+                    coalesce(sum(r.total_amount), 0) AS total, coalesce(sum(r.debit_amount), 0) AS debit,
+                    coalesce(sum(r.credit_amount), 0) AS credit, coalesce(sum(r.transaction_count), 0) AS count
+                    FROM bridge_transaction_rollups r
+                    """);
+        } else {
+            sql.append("""
+                    coalesce(sum(r.amount), 0) AS total,
+                    coalesce(sum(r.amount) FILTER (WHERE r.amount < 0), 0) AS debit,
+                    coalesce(sum(r.amount) FILTER (WHERE r.amount > 0), 0) AS credit, count(*) AS count
+                    FROM bridge_transactions r
+                    """);
+        }
+
+        List<Object> params = new ArrayList<>();
+        if (filter.getUserUuid() != null || filter.getItemId() != null) {
+            sql.append(" JOIN bridge_accounts a ON a.account_id = r.account_id");
+            sql.append(" JOIN bridge_items i ON i.item_id = a.item_id");
+        }
+        sql.append(rollup ? " WHERE true" : " WHERE r.is_deleted IS NOT TRUE AND r.date IS NOT NULL");
+
+        if (filter.getUserUuid() != null) {
+            sql.append(" AND i.user_uuid = ?");
+            params.add(filter.getUserUuid());
+        }
+        if (filter.getItemId() != null) {
+            sql.append(" AND a.item_id = ?");
+            params.add(filter.getItemId());
+        }
+        if (filter.getAccountId() != null) {
+            sql.append(" AND r.account_id = ?");
+            params.add(filter.getAccountId());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(rollup ? " AND r.month >= ?" : " AND r.date >= ?");
+            params.add(Date.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(rollup ? " AND r.month <= ?" : " AND r.date <= ?");
+            params.add(Date.valueOf(filter.getTo()));
+        }
+
+        if (dimensions.contains(Dimension.MONTH)) {
+            groupBy.add("1");
+        }
+        if (dimensions.contains(Dimension.ACCOUNT)) {
+            groupBy.add("2");
+        }
+        if (dimensions.contains(Dimension.CATEGORY)) {
+            groupBy.add("3");
+        }
+        if (dimensions.contains(Dimension.OPERATION_TYPE)) {
+            groupBy.add("5");
+        }
+        if (!groupBy.isEmpty()) {
+            String columns = String.join(", ", groupBy);
+            sql.append(" GROUP BY ").append(columns).append(" ORDER BY ").append(columns);
+        }
+
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> new TransactionAggregate(
+                rs.getString("month"),
+                rs.getString("account_id"),
+                (Integer) rs.getObject("category_id"),
+                rs.getString("category_name"),
+                rs.getString("operation_type"),
+                rs.getBigDecimal("total"),
+                rs.getBigDecimal("debit"),
+                rs.getBigDecimal("credit"),
+                rs.getLong("count")), params.toArray());
+    }
+}
@@ -0,0 +1,165 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.config.BridgeSyncConfig;
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BridgeTransactionBatchRepository {
+
+    /*
+     * One statement per chunk: the rows are shipped as parallel arrays and expanded with unnest,
+     * so a chunk costs a single round trip. The WHERE clause on the update branch skips rows whose
+     * content did not change, which lets RETURNING tell updates and no-ops apart.
+     * The table is partitioned by date and only unique on (transaction_id, date). bridge_transaction_keys
+     * holds the current date of every transaction: it tells inserts from updates, and a transaction whose
+     * date changed is deleted from its old partition only, then inserted again with the same id.
+     * All CTEs read the keys as they were before the statement.
+     */
+    private static final String UPSERT_SQL = """
+            WITH incoming AS (
+                SELECT * FROM unnest(?::text[], ?::text[], ?::text[], ?::numeric[], ?::text[], ?::date[],
+                                     ?::text[], ?::integer[], ?::text[], ?::boolean[])
+                    AS t(transaction_id, account_id, description, amount, currency, date,
+                         operation_type, category_id, category_name, is_deleted)
+            ),
+            previous AS (
+                SELECT k.transaction_id, k.date
+                FROM bridge_transaction_keys k
+                JOIN incoming i ON i.transaction_id = k.transaction_id
+            ),
+            keys AS (
+                INSERT INTO bridge_transaction_keys AS k (transaction_id, account_id, date)
+                SELECT transaction_id, account_id, date FROM incoming
+                ON CONFLICT (transaction_id) DO UPDATE SET
+                    account_id = EXCLUDED.account_id,
+                    date = EXCLUDED.date
+                WHERE (k.account_id, k.date) IS DISTINCT FROM (EXCLUDED.account_id, EXCLUDED.date)
+            ),
+            moved AS (
+                DELETE FROM bridge_transactions t
+                USING previous p
+                JOIN incoming i ON i.transaction_id = p.transaction_id
+                WHERE p.date <> i.date AND t.transaction_id = p.transaction_id AND t.date = p.date
+                RETURNING t.id, t.transaction_id, t.created_at
+            ),
+            upserted AS (
+                INSERT INTO bridge_transactions AS t (id, transaction_id, account_id, description, amount, currency,
+                                                      date, operation_type, category_id, category_name, is_deleted,
+                                                      created_at)
+                SELECT coalesce(m.id, gen_random_uuid()), i.transaction_id, i.account_id, i.description, i.amount,
+                       i.currency, i.date, i.operation_type, i.category_id, i.category_name, i.is_deleted,
+                       coalesce(m.created_at, now())
+                FROM incoming i
+                LEFT JOIN moved m ON m.transaction_id = i.transaction_id
+                ON CONFLICT (transaction_id, date) DO UPDATE SET
+                    account_id = EXCLUDED.account_id,
+                    description = EXCLUDED.description,
+                    amount = EXCLUDED.amount,
+                    currency = EXCLUDED.currency,
+                    operation_type = EXCLUDED.operation_type,
+                    category_id = EXCLUDED.category_id,
+                    category_name = EXCLUDED.category_name,
+                    is_deleted = EXCLUDED.is_deleted,
+                    updated_at = now()
+                WHERE (t.account_id, t.description, t.amount, t.currency, t.operation_type,
+                       t.category_id, t.category_name, t.is_deleted)
+                      IS DISTINCT FROM
+                      (EXCLUDED.account_id, EXCLUDED.description, EXCLUDED.amount, EXCLUDED.currency,
+                       EXCLUDED.operation_type, EXCLUDED.category_id, EXCLUDED.category_name,
+                       EXCLUDED.is_deleted)
+                RETURNING t.transaction_id
+            )
+            SELECT p.transaction_id IS NULL AS inserted
+            FROM upserted u
+            LEFT JOIN previous p ON p.transaction_id = u.transaction_id
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BridgeSyncConfig syncConfig;
+
+    @Transactional
+    public UpsertResult upsertAll(Collection<BridgeTransaction> transactions) {
+        UpsertResult result = UpsertResult.empty();
+        if (transactions.isEmpty()) {
+            return result;
+        }
+
+        int batchSize = Math.max(1, syncConfig.getBatchSize());
+        List<BridgeTransaction> chunk = new ArrayList<>(Math.min(batchSize, transactions.size()));
+
+        for (BridgeTransaction transaction : transactions) {
+            chunk.add(transaction);
+            if (chunk.size() == batchSize) {
+                result = result.plus(upsertChunk(chunk));
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            result = result.plus(upsertChunk(chunk));
+        }
+
+        log.debug("Upserted {} transactions: {}", transactions.size(), result);
+        return result;
+    }
+
+    private UpsertResult upsertChunk(List<BridgeTransaction> chunk) {
+        // A single INSERT ... ON CONFLICT cannot touch the same row twice, keep the last occurrence
+        Map<String, BridgeTransaction> unique = new LinkedHashMap<>();
+        chunk.forEach(transaction -> unique.put(transaction.getTransactionId(), transaction));
+        List<BridgeTransaction> rows = new ArrayList<>(unique.values());
+
+        int[] counts = jdbcTemplate.query(con -> prepareUpsert(con, rows), rs -> {
+            int[] result = new int[2];
+            while (rs.next()) {
+                result[rs.getBoolean("inserted") ? 0 : 1]++;
+            }
+            return result;
+        });
+
+        return new UpsertResult(counts[0], counts[1], chunk.size() - counts[0] - counts[1]);
+    }
+
+    private PreparedStatement prepareUpsert(Connection con, List<BridgeTransaction> rows) throws SQLException {
+        PreparedStatement ps = con.prepareStatement(UPSERT_SQL);
+        ps.setArray(1, textArray(con, rows, BridgeTransaction::getTransactionId));
+        ps.setArray(2, textArray(con, rows, BridgeTransaction::getAccountId));
+        ps.setArray(3, textArray(con, rows, BridgeTransaction::getDescription));
+        ps.setArray(4, textArray(con, rows, tx -> tx.getAmount() != null ? tx.getAmount().toPlainString() : null));
+        ps.setArray(5, textArray(con, rows, BridgeTransaction::getCurrency));
+        ps.setArray(6, textArray(con, rows, BridgeTransaction::getDate));
+        ps.setArray(7, textArray(con, rows, BridgeTransaction::getOperationType));
+        ps.setArray(8, textArray(con, rows, BridgeTransaction::getCategoryId));
+        ps.setArray(9, textArray(con, rows, BridgeTransaction::getCategoryName));
+        ps.setArray(10, textArray(con, rows, BridgeTransaction::getIsDeleted));
+        return ps;
+    }
+
+    private Array textArray(Connection con, List<BridgeTransaction> rows,
+                                     Function<BridgeTransaction, Object> column) throws SQLException {
+        String[] values = new String[rows.size()];
+        for (int i = 0; i < rows.size(); i++) {
+            Object value = column.apply(rows.get(i));
+            values[i] = value != null ? value.toString() : null;
+        }
+        return con.createArrayOf("text", values);
+    }
+}
@@ -0,0 +1,74 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.config.ExportConfig;
+import com.bridgeapi.model.dto.TransactionFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BridgeTransactionExportRepository {
+
+    private static final String SELECT_SQL = """
+            SELECT t.transaction_id, t.account_id, a.item_id, i.user_uuid, t.description, t.amount, t.currency,
+                   t.date, t.operation_type, t.category_id, t.category_name, t.is_deleted, t.updated_at
+            FROM bridge_transactions t
+            LEFT JOIN bridge_accounts a ON a.account_id = t.account_id
+            LEFT JOIN bridge_items i ON i.item_id = a.item_id
+            WHERE true
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ExportConfig exportConfig;
+
+    /*
+     * The PostgreSQL driver only streams with a fetch size inside a transaction (autocommit off),
+     * otherwise it buffers the whole result set. Rows are handed to the callback one by one and
+     * never collected. No ORDER BY so the first rows flow before the scan completes.
+     */
+    @Transactional(readOnly = true)
+    public void stream(TransactionFilter filter, RowCallbackHandler handler) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>();
+
+        if (filter.getUserUuid() != null) {
+            sql.append(" AND i.user_uuid = ?");
+            params.add(filter.getUserUuid());
+        }
+        if (filter.getItemId() != null) {
+            sql.append(" AND a.item_id = ?");
+            params.add(filter.getItemId());
+        }
+        if (filter.getAccountId() != null) {
+            sql.append(" AND t.account_id = ?");
+            params.add(filter.getAccountId());
+        }
+        if (filter.getFrom() != null) {
+            sql.append(" AND t.date >= ?");
+            params.add(Date.valueOf(filter.getFrom()));
+        }
+        if (filter.getTo() != null) {
+            sql.append(" AND t.date <= ?");
+            params.add(Date.valueOf(filter.getTo()));
+        }
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(
+                    sql.toString(), ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(exportConfig.getFetchSize());
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, handler);
+    }
+}
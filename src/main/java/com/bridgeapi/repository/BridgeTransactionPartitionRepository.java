@@ -0,0 +1,28 @@
+package com.bridgeapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class BridgeTransactionPartitionRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Takes locks on bridge_transactions, must not run inside a transaction that already read it
+    public int ensurePartitions(LocalDate from, LocalDate to) {
+        Integer created = jdbcTemplate.queryForObject("SELECT bridge_ensure_transaction_partitions(?, ?)",
+                Integer.class, Date.valueOf(from), Date.valueOf(to));
+        return created != null ? created : 0;
+    }
+
+    public List<String> detachPartitionsBefore(LocalDate before) {
+        return jdbcTemplate.queryForList("SELECT bridge_detach_transaction_partitions(?)",
+                String.class, Date.valueOf(before));
+    }
+}
@@ -1,15 +1,48 @@
 package com.bridgeapi.repository;
 
+import com.bridgeapi.model.dto.TransactionView;
 import com.bridgeapi.model.entity.BridgeTransaction;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface BridgeTransactionRepository extends JpaRepository<BridgeTransaction, String> {
-    Optional<BridgeTransaction> findByTransactionId(String transactionId);
     List<BridgeTransaction> findByAccountId(String accountId);
     List<BridgeTransaction> findByAccountIdAndDateAfter(String accountId, LocalDate date);
+
+    // Newest first, served by idx_bridge_transactions_account_keyset
+    @Query(value = """
+            SELECT transaction_id AS "transactionId", account_id AS "accountId", description, amount, currency,
+                   date, operation_type AS "operationType", category_id AS "categoryId",
+                   category_name AS "categoryName", is_deleted AS "isDeleted"
+            FROM bridge_transactions
+            WHERE account_id = :accountId AND date BETWEEN :from AND :to
+            ORDER BY date DESC, transaction_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TransactionView> findPageByAccountId(@Param("accountId") String accountId,
+                                              @Param("from") LocalDate from,
+                                              @Param("to") LocalDate to,
+                                              @Param("limit") int limit);
+
+    @Query(value = """
+            SELECT transaction_id AS "transactionId", account_id AS "accountId", description, amount, currency,
+                   date, operation_type AS "operationType", category_id AS "categoryId",
+                   category_name AS "categoryName", is_deleted AS "isDeleted"
+            FROM bridge_transactions
+            WHERE account_id = :accountId AND date BETWEEN :from AND :to
+              AND (date, transaction_id) < (:cursorDate, :cursorTransactionId)
+            ORDER BY date DESC, transaction_id DESC
+            LIMIT :limit
+            """, nativeQuery = true)
+    List<TransactionView> findPageByAccountIdAfter(@Param("accountId") String accountId,
+                                                   @Param("from") LocalDate from,
+                                                   @Param("to") LocalDate to,
+                                                   @Param("cursorDate") LocalDate cursorDate,
+                                                   @Param("cursorTransactionId") String cursorTransactionId,
+                                                   @Param("limit") int limit);
 }
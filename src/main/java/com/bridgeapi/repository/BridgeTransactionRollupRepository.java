@@ -0,0 +1,127 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeTransaction;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BridgeTransactionRollupRepository {
+
+    /*
+     * Rows keep their (account, month) group before the upsert moves them, both groups must be refreshed.
+     * Read from the key table: bridge_transactions cannot prune partitions on transaction_id alone.
+     */
+    private static final String CURRENT_GROUPS_SQL = """
+            SELECT DISTINCT account_id, date_trunc('month', date)::date AS month
+            FROM bridge_transaction_keys
+            WHERE transaction_id = ANY(?::text[])
+            """;
+
+    // Serializes refreshes of the same account between concurrent syncs, in a stable order
+    private static final String LOCK_SQL = """
+            SELECT pg_advisory_xact_lock(k) FROM (
+                SELECT DISTINCT hashtext('bridge_transaction_rollups:' || account_id) AS k
+                FROM unnest(?::text[]) AS g(account_id)
+                ORDER BY k
+            ) keys
+            """;
+
+    private static final String DELETE_SQL = """
+            DELETE FROM bridge_transaction_rollups r
+            USING unnest(?::text[], ?::date[]) AS g(account_id, month)
+            WHERE r.account_id = g.account_id AND r.month = g.month
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO bridge_transaction_rollups (account_id, month, category_id, category_name, operation_type,
+                                                    total_amount, debit_amount, credit_amount, transaction_count)
+            SELECT t.account_id, g.month, t.category_id, max(t.category_name), t.operation_type,
+                   sum(t.amount),
+                   coalesce(sum(t.amount) FILTER (WHERE t.amount < 0), 0),
+                   coalesce(sum(t.amount) FILTER (WHERE t.amount > 0), 0),
+                   count(*)
+            FROM unnest(?::text[], ?::date[]) AS g(account_id, month)
+            JOIN bridge_transactions t
+              ON t.account_id = g.account_id AND t.date >= g.month AND t.date < g.month + interval '1 month'
+            WHERE t.is_deleted IS NOT TRUE
+            GROUP BY t.account_id, g.month, t.category_id, t.operation_type
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record MonthGroup(String accountId, LocalDate month) {
+    }
+
+    /**
+     * Groups touched by a batch: where its rows are now in the database and where the batch puts them.
+     * Must run before the upsert.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Set<MonthGroup> affectedGroups(Collection<BridgeTransaction> batch) {
+        Set<MonthGroup> groups = new LinkedHashSet<>();
+        batch.stream()
+                .filter(transaction -> transaction.getDate() != null)
+                .forEach(transaction -> groups.add(
+                        new MonthGroup(transaction.getAccountId(), transaction.getDate().withDayOfMonth(1))));
+
+        String[] transactionIds = batch.stream()
+                .map(BridgeTransaction::getTransactionId)
+                .filter(Objects::nonNull)
+                .toArray(String[]::new);
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(CURRENT_GROUPS_SQL);
+            ps.setArray(1, con.createArrayOf("text", transactionIds));
+            return ps;
+        }, rs -> {
+            groups.add(new MonthGroup(rs.getString("account_id"), rs.getDate("month").toLocalDate()));
+        });
+        return groups;
+    }
+
+    /**
+     * Recomputes the rollup rows of the given groups from bridge_transactions. Recomputing whole
+     * (account, month) groups instead of applying deltas keeps updates, deletions and moved rows exact.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void refresh(Collection<MonthGroup> groups) {
+        if (groups.isEmpty()) {
+            return;
+        }
+
+        List<MonthGroup> rows = List.copyOf(groups);
+        String[] accountIds = rows.stream().map(MonthGroup::accountId).toArray(String[]::new);
+        Date[] months = rows.stream().map(group -> Date.valueOf(group.month())).toArray(Date[]::new);
+
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(LOCK_SQL);
+            ps.setArray(1, con.createArrayOf("text", accountIds));
+            return ps;
+        }, rs -> {
+        });
+        for (String sql : List.of(DELETE_SQL, INSERT_SQL)) {
+            jdbcTemplate.update(con -> {
+                PreparedStatement ps = con.prepareStatement(sql);
+                ps.setArray(1, con.createArrayOf("text", accountIds));
+                ps.setArray(2, con.createArrayOf("date", months));
+                return ps;
+            });
+        }
+
+        log.debug("Refreshed {} transaction rollup group(s)", rows.size());
+    }
+}
@@ -1,13 +1,27 @@
 package com.bridgeapi.repository;
 
+import com.bridgeapi.config.CacheConfig;
 import com.bridgeapi.model.entity.BridgeUser;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.util.Optional;
 
+// Users are only written through Hibernate, which invalidates the cached queries on every insert or update
 @Repository
-public interface BridgeUserRepository extends JpaRepository<BridgeUser, String> {
-    Optional<BridgeUser> findByBridgeUuid(String bridgeUuid);
+public interface BridgeUserRepository extends JpaRepository<BridgeUser, String>, BridgeUserRepositoryCustom {
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.USER_QUERIES_REGION)
+    })
     Optional<BridgeUser> findByEmail(String email);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = CacheConfig.USER_QUERIES_REGION)
+    })
     Optional<BridgeUser> findByExternalUserId(String externalUserId);
 }
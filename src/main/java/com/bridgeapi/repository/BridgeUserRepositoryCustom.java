@@ -0,0 +1,10 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeUser;
+
+import java.util.Optional;
+
+public interface BridgeUserRepositoryCustom {
+
+    Optional<BridgeUser> findByBridgeUuid(String bridgeUuid);
+}
@@ -0,0 +1,24 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeUser;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+public class BridgeUserRepositoryCustomImpl implements BridgeUserRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Resolved through the natural-id and entity caches, Postgres is only hit on a miss
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<BridgeUser> findByBridgeUuid(String bridgeUuid) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(BridgeUser.class)
+                .loadOptional(bridgeUuid);
+    }
+}
@@ -0,0 +1,39 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeWebhookOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface BridgeWebhookOutboxRepository extends JpaRepository<BridgeWebhookOutbox, String> {
+
+    @Query(value = """
+            SELECT * FROM bridge_webhook_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY created_at
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<BridgeWebhookOutbox> lockPending(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(BridgeWebhookOutbox.Status status);
+
+    @Modifying
+    @Query(value = """
+            UPDATE bridge_webhook_outbox SET status = 'PENDING', locked_at = NULL
+            WHERE status = 'PROCESSING' AND locked_at < :before
+            """, nativeQuery = true)
+    int releaseStale(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query(value = """
+            DELETE FROM bridge_webhook_outbox
+            WHERE status = 'DONE' AND processed_at < :before
+            """, nativeQuery = true)
+    int deleteProcessedBefore(@Param("before") LocalDateTime before);
+}
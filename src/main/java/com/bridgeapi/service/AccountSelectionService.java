@@ -4,9 +4,11 @@ import com.bridgeapi.model.entity.BridgeAccount;
 import com.bridgeapi.repository.BridgeAccountRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.Optional;
 
 @Slf4j
@@ -15,32 +17,76 @@ import java.util.Optional;
 public class AccountSelectionService {
 
     private final BridgeAccountRepository accountRepository;
+    private final ReadCacheInvalidator cacheInvalidator;
+
+    @Transactional
+    public BridgeAccount selectAccount(String accountId, String itemId) {
+        BridgeAccount account = accountRepository.findByAccountId(accountId)
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountId));
+
+        if (!account.getItemId().equals(itemId)) {
+            throw new RuntimeException("Account " + accountId + " does not belong to item " + itemId);
+        }
+
+        return selectAccount(account);
+    }
 
     @Transactional
     public BridgeAccount selectAccount(String accountId) {
         BridgeAccount account = accountRepository.findByAccountId(accountId)
                 .orElseThrow(() -> new RuntimeException("Account not found: " + accountId));
 
+        return selectAccount(account);
+    }
+
+    private BridgeAccount selectAccount(BridgeAccount account) {
         if (account.getIsSelected()) {
-            log.info("Account {} is already selected", accountId);
+            log.info("Account {} is already selected", account.getAccountId());
             return account;
         }
 
-        Optional<BridgeAccount> existingSelected = accountRepository.findByItemIdAndIsSelectedTrue(account.getItemId());
-        if (existingSelected.isPresent()) {
+        // Checked against the database, not the read cache, since it guards the write
+        if (accountRepository.existsByItemIdAndIsSelectedTrue(account.getItemId())) {
             throw new RuntimeException("User already has a selected account. Account selection cannot be changed.");
         }
 
         account.setIsSelected(true);
-        BridgeAccount saved = accountRepository.save(account);
-        log.info("Account {} selected successfully", accountId);
+        BridgeAccount saved;
+        try {
+            // Flushed here so a concurrent selection hits the partial unique index inside this method
+            saved = accountRepository.saveAndFlush(account);
+        } catch (DataIntegrityViolationException e) {
+            throw new RuntimeException("User already has a selected account. Account selection cannot be changed.", e);
+        }
+        cacheInvalidator.evictAccountsOfItem(saved.getItemId());
+        log.info("Account {} selected successfully", saved.getAccountId());
         return saved;
     }
 
+    @Transactional
+    public void deselectAccount(String accountId) {
+        BridgeAccount account = accountRepository.findByAccountId(accountId)
+                .orElseThrow(() -> new RuntimeException("Account not found: " + accountId));
+
+        if (!account.getIsSelected()) {
+            log.info("Account {} is not selected", accountId);
+            return;
+        }
+
+        account.setIsSelected(false);
+        accountRepository.save(account);
+        cacheInvalidator.evictAccountsOfItem(account.getItemId());
+        log.info("Account {} deselected successfully", accountId);
+    }
+
     public Optional<BridgeAccount> getSelectedAccount(String itemId) {
         return accountRepository.findByItemIdAndIsSelectedTrue(itemId);
     }
 
+    public List<BridgeAccount> getAvailableAccounts(String itemId) {
+        return accountRepository.findByItemId(itemId);
+    }
+
     public boolean hasSelectedAccount(String itemId) {
         return accountRepository.findByItemIdAndIsSelectedTrue(itemId).isPresent();
     }
@@ -0,0 +1,114 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.BridgeApiConfig;
+import com.bridgeapi.model.dto.AuthTokenResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AuthTokenCache {
+
+    private final BridgeApiService bridgeApiService;
+    private final BridgeApiConfig bridgeApiConfig;
+
+    private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+
+    public Mono<AuthTokenResponse> getToken(String userUuid) {
+        BridgeApiConfig.TokenCache config = bridgeApiConfig.getTokenCache();
+        if (!config.isEnabled()) {
+            return bridgeApiService.generateAuthToken(userUuid);
+        }
+
+        Instant now = Instant.now();
+        CachedToken cached = tokens.compute(userUuid, (key, current) ->
+                current != null && current.isUsable(now.plus(config.getMinRemainingValidity()))
+                        ? current
+                        : new CachedToken(key));
+        cached.lastAccess = now;
+        return cached.token;
+    }
+
+    public void invalidate(String userUuid) {
+        tokens.remove(userUuid);
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.api.token-cache.sweep-interval-ms:15000}")
+    public void refreshExpiringTokens() {
+        BridgeApiConfig.TokenCache config = bridgeApiConfig.getTokenCache();
+        Instant now = Instant.now();
+
+        tokens.forEach((userUuid, cached) -> {
+            if (cached.lastAccess.plus(config.getIdleTimeout()).isBefore(now)) {
+                tokens.remove(userUuid, cached);
+            } else if (cached.expiresBefore(now.plus(config.getRefreshBeforeExpiry()))
+                    && cached.refreshing.compareAndSet(false, true)) {
+                refresh(userUuid, cached);
+            }
+        });
+    }
+
+    // The current token keeps being served until its replacement has been fetched
+    private void refresh(String userUuid, CachedToken current) {
+        log.debug("Refreshing auth token of user {} ahead of expiry", userUuid);
+        CachedToken next = new CachedToken(userUuid);
+        next.lastAccess = current.lastAccess;
+
+        next.token.subscribe(
+                response -> tokens.replace(userUuid, current, next),
+                error -> {
+                    log.warn("Background refresh of auth token for user {} failed: {}", userUuid, error.getMessage());
+                    current.refreshing.set(false);
+                });
+    }
+
+    private final class CachedToken {
+
+        private final Mono<AuthTokenResponse> token;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private volatile Instant expiresAt;
+        private volatile boolean failed;
+        private volatile Instant lastAccess = Instant.now();
+
+        private CachedToken(String userUuid) {
+            this.token = bridgeApiService.generateAuthToken(userUuid)
+                    .doOnNext(response -> expiresAt = parseExpiry(response))
+                    .doOnError(error -> {
+                        failed = true;
+                        tokens.remove(userUuid, this);
+                    })
+                    .cache();
+        }
+
+        // An in-flight request is shared by every caller that arrives before it completes
+        private boolean isUsable(Instant validUntil) {
+            if (failed) {
+                return false;
+            }
+            return expiresAt == null || expiresAt.isAfter(validUntil);
+        }
+
+        private boolean expiresBefore(Instant instant) {
+            return expiresAt != null && expiresAt.isBefore(instant);
+        }
+    }
+
+    private static Instant parseExpiry(AuthTokenResponse response) {
+        try {
+            return response.getExpiresAt() != null ? Instant.parse(response.getExpiresAt()) : Instant.EPOCH;
+        } catch (DateTimeParseException e) {
+            log.warn("Unparseable token expiry '{}', token will not be reused", response.getExpiresAt());
+            return Instant.EPOCH;
+        }
+    }
+}
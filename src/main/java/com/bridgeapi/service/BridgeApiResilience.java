@@ -0,0 +1,122 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.BridgeApiConfig;
+import com.bridgeapi.exception.BridgeApiException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.github.resilience4j.reactor.ratelimiter.operator.RateLimiterOperator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BridgeApiResilience {
+
+    private final BridgeApiConfig bridgeApiConfig;
+    private final CircuitBreakerRegistry bridgeCircuitBreakerRegistry;
+    private final RateLimiter bridgeRateLimiter;
+    private final BridgeMetrics bridgeMetrics;
+
+    // Every attempt is timed, including the ones rejected by the rate limiter or an open circuit
+    public <T> Mono<T> decorate(String endpoint, boolean idempotent, Mono<T> call) {
+        return bridgeMetrics.timeApiRequest(endpoint, call
+                        .transformDeferred(RateLimiterOperator.of(bridgeRateLimiter))
+                        .transformDeferred(CircuitBreakerOperator.of(bridgeCircuitBreakerRegistry.circuitBreaker(endpoint))))
+                .retryWhen(retry(endpoint, idempotent));
+    }
+
+    public <T> Flux<T> decorate(String endpoint, boolean idempotent, Flux<T> call) {
+        return bridgeMetrics.timeApiRequest(endpoint, call
+                        .transformDeferred(RateLimiterOperator.of(bridgeRateLimiter))
+                        .transformDeferred(CircuitBreakerOperator.of(bridgeCircuitBreakerRegistry.circuitBreaker(endpoint))))
+                .retryWhen(retry(endpoint, idempotent));
+    }
+
+    public Mono<? extends Throwable> toException(String endpoint, ClientResponse response) {
+        int status = response.statusCode().value();
+        Duration retryAfter = parseRetryAfter(response.headers().asHttpHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+
+        return response.bodyToMono(String.class)
+                .defaultIfEmpty("")
+                .map(body -> {
+                    log.error("Bridge API error on {}: {} {}", endpoint, status, body);
+                    return new BridgeApiException(endpoint, status, body, retryAfter);
+                });
+    }
+
+    private Retry retry(String endpoint, boolean idempotent) {
+        BridgeApiConfig.Retry config = bridgeApiConfig.getRetry();
+
+        // Not totalRetriesInARow: any element emitted by a Flux call would reset it and retry without bound
+        return Retry.from(signals -> signals.concatMap(signal -> {
+            Throwable failure = signal.failure();
+            long attempt = signal.totalRetries() + 1;
+
+            if (attempt >= config.getMaxAttempts() || !isRetryable(failure, idempotent)) {
+                return Mono.error(failure);
+            }
+
+            Duration delay = backoff(attempt, config);
+            if (failure instanceof BridgeApiException bridgeError && bridgeError.getRetryAfter() != null) {
+                if (bridgeError.getRetryAfter().compareTo(config.getMaxRetryAfter()) > 0) {
+                    return Mono.error(failure);
+                }
+                delay = delay.compareTo(bridgeError.getRetryAfter()) > 0 ? delay : bridgeError.getRetryAfter();
+            }
+
+            bridgeMetrics.countApiRetry(endpoint, failure);
+            log.warn("Retrying {} in {} ms (attempt {}/{}): {}", endpoint, delay.toMillis(), attempt + 1,
+                    config.getMaxAttempts(), failure.getMessage());
+            return Mono.delay(delay);
+        }));
+    }
+
+    // A 429 was not processed by Bridge and is always safe to replay, other failures only on idempotent calls
+    private boolean isRetryable(Throwable failure, boolean idempotent) {
+        if (failure instanceof BridgeApiException bridgeError) {
+            return bridgeError.isRateLimited() || (idempotent && bridgeError.isServerError());
+        }
+        return idempotent && (failure instanceof WebClientRequestException || failure instanceof TimeoutException);
+    }
+
+    // Exponential backoff with jitter in [backoff / 2, backoff]
+    private Duration backoff(long attempt, BridgeApiConfig.Retry config) {
+        long initial = config.getInitialBackoff().toMillis();
+        long exponential = initial * (1L << Math.min(attempt - 1, 20));
+        long capped = Math.min(exponential, config.getMaxBackoff().toMillis());
+        return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+    }
+
+    private static Duration parseRetryAfter(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(value.trim()));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
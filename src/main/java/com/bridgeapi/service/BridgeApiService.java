@@ -1,35 +1,50 @@
 package com.bridgeapi.service;
 
+import com.bridgeapi.config.BridgeApiConfig;
+import com.bridgeapi.config.BridgeSyncConfig;
 import com.bridgeapi.model.dto.*;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatus;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.net.URI;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BridgeApiService {
 
+    private static final String USERS = "users";
+    private static final String TOKEN = "authorization-token";
+    private static final String CONNECT_SESSIONS = "connect-sessions";
+    private static final String ACCOUNTS = "accounts";
+    private static final String TRANSACTIONS = "transactions";
+    private static final String ITEMS = "items";
+
     private final WebClient webClient;
+    private final BridgeApiConfig bridgeApiConfig;
+    private final BridgeSyncConfig syncConfig;
+    private final BridgeResourceStreamParser resourceStreamParser;
+    private final BridgeApiResilience resilience;
 
     public Mono<BridgeUserResponse> createUser(CreateUserRequest request) {
         log.info("Creating Bridge user with email: {}", request.getEmail());
 
-        return webClient.post()
+        Mono<BridgeUserResponse> call = retrieve(USERS, webClient.post()
                 .uri("/aggregation/users")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error creating user: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(BridgeUserResponse.class)
+                .bodyValue(request))
+                .bodyToMono(BridgeUserResponse.class);
+
+        return resilience.decorate(USERS, false, call)
                 .doOnSuccess(response -> log.info("User created successfully: {}", response.getUuid()));
     }
 
@@ -38,90 +53,117 @@ public class BridgeApiService {
 
         AuthTokenRequest request = new AuthTokenRequest(userUuid);
 
-        return webClient.post()
+        Mono<AuthTokenResponse> call = retrieve(TOKEN, webClient.post()
                 .uri("/aggregation/authorization/token")
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error generating token: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(AuthTokenResponse.class)
+                .bodyValue(request))
+                .bodyToMono(AuthTokenResponse.class);
+
+        return resilience.decorate(TOKEN, true, call)
                 .doOnSuccess(response -> log.info("Token generated successfully"));
     }
 
     public Mono<ConnectSessionResponse> createConnectSession(ConnectSessionRequest request, String accessToken) {
         log.info("Creating connect session for user: {}", request.getUserUuid());
 
-        return webClient.post()
+        Mono<ConnectSessionResponse> call = retrieve(CONNECT_SESSIONS, webClient.post()
                 .uri("/aggregation/connect-sessions")
                 .header("Authorization", "Bearer " + accessToken)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error creating connect session: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(ConnectSessionResponse.class)
+                .bodyValue(request))
+                .bodyToMono(ConnectSessionResponse.class);
+
+        return resilience.decorate(CONNECT_SESSIONS, false, call)
                 .doOnSuccess(response -> log.info("Connect session created: {}", response.getUuid()));
     }
 
-    public Mono<JsonNode> getAccounts(String accessToken) {
+    public Flux<JsonNode> getAccounts(String accessToken) {
         log.info("Fetching accounts from Bridge API");
 
-        return webClient.get()
-                .uri("/aggregation/accounts")
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error fetching accounts: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(JsonNode.class)
-                .doOnSuccess(response -> log.info("Accounts fetched successfully"));
+        return fetchPages(listUri("/aggregation/accounts", null), accessToken, ACCOUNTS)
+                .doOnComplete(() -> log.info("Accounts fetched successfully"));
     }
 
-    public Mono<JsonNode> getTransactions(String accessToken, String since) {
+    public Flux<JsonNode> getTransactions(String accessToken, String since) {
         log.info("Fetching transactions from Bridge API");
 
-        String uri = since != null
-                ? "/aggregation/transactions?since=" + since
-                : "/aggregation/transactions";
+        return fetchPages(listUri("/aggregation/transactions", since), accessToken, TRANSACTIONS)
+                .doOnComplete(() -> log.info("Transactions fetched successfully"));
+    }
+
+    public Flux<JsonNode> streamTransactions(String accessToken, String since) {
+        log.info("Streaming transactions from Bridge API");
 
-        return webClient.get()
-                .uri(uri)
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error fetching transactions: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(JsonNode.class)
-                .doOnSuccess(response -> log.info("Transactions fetched successfully"));
+        return streamPages(listUri("/aggregation/transactions", since), accessToken, TRANSACTIONS)
+                .doOnComplete(() -> log.info("Transactions streamed successfully"));
     }
 
-    public Mono<JsonNode> getItems(String accessToken) {
+    public Flux<JsonNode> getItems(String accessToken) {
         log.info("Fetching items from Bridge API");
 
-        return webClient.get()
-                .uri("/aggregation/items")
-                .header("Authorization", "Bearer " + accessToken)
-                .retrieve()
-                .onStatus(HttpStatus::isError, clientResponse -> {
-                    log.error("Error fetching items: {}", clientResponse.statusCode());
-                    return clientResponse.bodyToMono(String.class)
-                            .flatMap(errorBody -> Mono.error(
-                                    new RuntimeException("Bridge API error: " + errorBody)));
-                })
-                .bodyToMono(JsonNode.class)
-                .doOnSuccess(response -> log.info("Items fetched successfully"));
+        return fetchPages(listUri("/aggregation/items", null), accessToken, ITEMS)
+                .doOnComplete(() -> log.info("Items fetched successfully"));
+    }
+
+    private Flux<JsonNode> fetchPages(URI firstPage, String accessToken, String resource) {
+        return fetchPage(firstPage, accessToken, resource)
+                .expand(page -> nextPageUri(page)
+                        .map(uri -> fetchPage(uri, accessToken, resource))
+                        .orElseGet(Mono::empty));
+    }
+
+    private Mono<JsonNode> fetchPage(URI uri, String accessToken, String resource) {
+        log.debug("Fetching {} page: {}", resource, uri);
+
+        Mono<JsonNode> call = retrieve(resource, webClient.get()
+                .uri(uri)
+                .header("Authorization", "Bearer " + accessToken))
+                .bodyToMono(JsonNode.class);
+
+        return resilience.decorate(resource, true, call);
+    }
+
+    // A retried page is parsed again from its first element, which the idempotent upsert absorbs
+    private Flux<JsonNode> streamPages(URI uri, String accessToken, String resource) {
+        return Flux.defer(() -> {
+            log.debug("Streaming {} page: {}", resource, uri);
+            AtomicReference<String> nextUri = new AtomicReference<>();
+
+            Flux<DataBuffer> body = retrieve(resource, webClient.get()
+                    .uri(uri)
+                    .header("Authorization", "Bearer " + accessToken))
+                    .bodyToFlux(DataBuffer.class);
+
+            return resilience.decorate(resource, true, resourceStreamParser.parseResources(body, nextUri::set))
+                    .concatWith(Flux.defer(() -> nextUri.get() != null
+                            ? streamPages(resolve(nextUri.get()), accessToken, resource)
+                            : Flux.empty()));
+        });
+    }
+
+    private WebClient.ResponseSpec retrieve(String endpoint, WebClient.RequestHeadersSpec<?> request) {
+        return request.retrieve()
+                .onStatus(HttpStatusCode::isError, clientResponse -> resilience.toException(endpoint, clientResponse));
+    }
+
+    private URI listUri(String path, String since) {
+        return UriComponentsBuilder.fromHttpUrl(bridgeApiConfig.getBaseUrl())
+                .path(path)
+                .queryParam("limit", syncConfig.getPageSize())
+                .queryParamIfPresent("since", Optional.ofNullable(since))
+                .encode()
+                .build()
+                .toUri();
+    }
+
+    private Optional<URI> nextPageUri(JsonNode page) {
+        JsonNode nextUri = page.path("pagination").path("next_uri");
+        if (nextUri.isMissingNode() || nextUri.isNull() || nextUri.asText().isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(resolve(nextUri.asText()));
+    }
+
+    // next_uri is host-relative and already carries the version prefix, e.g. /v3/aggregation/accounts?after=...
+    private URI resolve(String nextUri) {
+        return URI.create(bridgeApiConfig.getBaseUrl()).resolve(nextUri);
     }
 }
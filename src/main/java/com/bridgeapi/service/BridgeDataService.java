@@ -1,144 +1,261 @@
 package com.bridgeapi.service;
 
+import com.bridgeapi.config.BridgeSyncConfig;
+import com.bridgeapi.exception.InvalidRequestException;
+import com.bridgeapi.exception.SyncFailedException;
+import com.bridgeapi.model.dto.BalancePoint;
+import com.bridgeapi.model.dto.SyncReport;
+import com.bridgeapi.model.dto.TransactionAggregate;
+import com.bridgeapi.model.dto.TransactionFilter;
+import com.bridgeapi.model.dto.TransactionPage;
+import com.bridgeapi.model.dto.TransactionView;
+import com.bridgeapi.model.dto.UpsertResult;
 import com.bridgeapi.model.entity.BridgeAccount;
 import com.bridgeapi.model.entity.BridgeItem;
 import com.bridgeapi.model.entity.BridgeTransaction;
 import com.bridgeapi.repository.BridgeAccountRepository;
+import com.bridgeapi.repository.BridgeBalanceHistoryRepository;
 import com.bridgeapi.repository.BridgeItemRepository;
+import com.bridgeapi.repository.BridgeTransactionAggregateRepository;
 import com.bridgeapi.repository.BridgeTransactionRepository;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import net.logstash.logback.argument.StructuredArguments;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
-import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class BridgeDataService {
 
+    private static final int DEFAULT_PAGE_SIZE = 100;
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final LocalDate MIN_DATE = LocalDate.of(1900, 1, 1);
+    private static final LocalDate MAX_DATE = LocalDate.of(9999, 12, 31);
+    private static final int DEFAULT_BALANCE_HISTORY_DAYS = 90;
+
     private final BridgeApiService bridgeApiService;
     private final BridgeItemRepository itemRepository;
     private final BridgeAccountRepository accountRepository;
     private final BridgeTransactionRepository transactionRepository;
+    private final BridgeTransactionAggregateRepository aggregateRepository;
+    private final BridgeBalanceHistoryRepository balanceHistoryRepository;
+    private final TransactionBatchWriter transactionBatchWriter;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final BridgeEntityWriter entityWriter;
+    private final BridgeResourceMapper resourceMapper;
+    private final BridgeMetrics bridgeMetrics;
+    private final BridgeSyncConfig syncConfig;
+    private final Scheduler persistenceScheduler;
+
+    /**
+     * Fetches items, accounts and transactions concurrently but commits them in dependency order: accounts
+     * wait for the items commit, transaction batches wait for the accounts commit. Transaction pages keep
+     * being fetched meanwhile, up to the prefetch window. A failed stage skips the stages depending on it,
+     * the ones already committed stay committed and the report tells which is which.
+     */
+    public Mono<SyncReport> syncUserData(String userUuid, String accessToken) {
+        return Mono.defer(() -> {
+            log.debug("Starting data sync for user: {}", userUuid);
+            SyncReport report = new SyncReport(userUuid);
+            long start = System.nanoTime();
+
+            Mono<List<BridgeAccount>> accountsFetched = fetchAccounts(accessToken)
+                    .doOnError(error -> fail(report.getAccounts(), error))
+                    .cache();
+
+            Mono<UpsertResult> itemsCommitted = fetchItems(userUuid, accessToken)
+                    .flatMap(items -> persist(() -> entityWriter.upsertItems(userUuid, items)))
+                    .doOnNext(result -> commit(report.getItems(), result, start))
+                    .doOnError(error -> fail(report.getItems(), error))
+                    .transform(sync -> bridgeMetrics.timeSync("items", sync))
+                    .cache();
 
-    @Transactional
-    public Mono<Void> syncUserData(String userUuid, String accessToken) {
-        log.info("Starting data sync for user: {}", userUuid);
+            Mono<UpsertResult> accountsCommitted = Mono.zip(itemsCommitted, accountsFetched, (items, accounts) -> accounts)
+                    .flatMap(accounts -> persist(() -> entityWriter.upsertAccounts(accounts))
+                            .doOnError(error -> fail(report.getAccounts(), error)))
+                    .doOnNext(result -> commit(report.getAccounts(), result, start))
+                    .transform(sync -> bridgeMetrics.timeSync("accounts", sync))
+                    .cache();
+
+            Mono<UpsertResult> transactionsCommitted = syncTransactionsIncremental(userUuid, accessToken,
+                    accountsCommitted.then().onErrorMap(UpstreamStageFailure::new), report.getTransactions())
+                    .doOnNext(result -> commit(report.getTransactions(), null, start));
+
+            return Mono.whenDelayError(itemsCommitted, accountsCommitted, transactionsCommitted)
+                    .then(Mono.fromSupplier(() -> complete(report, start)))
+                    .onErrorMap(error -> new SyncFailedException(complete(report, start), rootFailure(error)));
+        });
+    }
 
-        return Mono.zip(
-                syncItems(userUuid, accessToken),
-                syncAccounts(accessToken),
-                syncTransactions(accessToken, null)
-        ).then();
+    public Mono<UpsertResult> syncItems(String userUuid, String accessToken) {
+        return bridgeMetrics.timeSync("items", fetchItems(userUuid, accessToken)
+                .flatMap(items -> persist(() -> entityWriter.upsertItems(userUuid, items)))
+                .doOnNext(result -> bridgeMetrics.countRows("items", result)));
     }
 
-    @Transactional
-    public Mono<List<BridgeItem>> syncItems(String userUuid, String accessToken) {
+    // Banks of the user's items, read from Bridge without persisting anything
+    public Mono<Set<Integer>> fetchProviderIds(String accessToken) {
         return bridgeApiService.getItems(accessToken)
-                .map(response -> {
-                    List<BridgeItem> items = new ArrayList<>();
-                    JsonNode resources = response.get("resources");
-
-                    if (resources != null && resources.isArray()) {
-                        resources.forEach(itemNode -> {
-                            BridgeItem item = new BridgeItem();
-                            item.setItemId(String.valueOf(itemNode.get("id").asInt()));
-                            item.setUserUuid(userUuid);
-                            item.setStatus(itemNode.get("status").asText());
-
-                            if (itemNode.has("status_code_info")) {
-                                item.setStatusCodeInfo(itemNode.get("status_code_info").asText());
-                            }
-                            if (itemNode.has("status_code_description")) {
-                                item.setStatusCodeDescription(itemNode.get("status_code_description").asText());
-                            }
-
-                            BridgeItem savedItem = itemRepository.save(item);
-                            items.add(savedItem);
-                            log.info("Item saved: {}", savedItem.getItemId());
-                        });
-                    }
+                .concatMapIterable(this::resources, syncConfig.getPrefetch())
+                .filter(itemNode -> itemNode.hasNonNull("provider_id"))
+                .map(itemNode -> itemNode.get("provider_id").asInt())
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
 
-                    return items;
-                });
+    public Mono<UpsertResult> syncAccounts(String accessToken) {
+        return bridgeMetrics.timeSync("accounts", fetchAccounts(accessToken)
+                .flatMap(accounts -> persist(() -> entityWriter.upsertAccounts(accounts)))
+                .doOnNext(result -> bridgeMetrics.countRows("accounts", result)));
     }
 
-    @Transactional
-    public Mono<List<BridgeAccount>> syncAccounts(String accessToken) {
-        return bridgeApiService.getAccounts(accessToken)
-                .map(response -> {
-                    List<BridgeAccount> accounts = new ArrayList<>();
-                    JsonNode resources = response.get("resources");
-
-                    if (resources != null && resources.isArray()) {
-                        resources.forEach(accountNode -> {
-                            BridgeAccount account = new BridgeAccount();
-                            account.setAccountId(String.valueOf(accountNode.get("id").asInt()));
-                            account.setItemId(String.valueOf(accountNode.get("item_id").asInt()));
-                            account.setName(accountNode.get("name").asText());
-                            account.setBalance(BigDecimal.valueOf(accountNode.get("balance").asDouble()));
-                            account.setCurrency(accountNode.get("currency").asText());
-                            account.setType(accountNode.get("type").asText());
-                            account.setStatus(accountNode.get("status").asText());
-
-                            if (accountNode.has("iban") && !accountNode.get("iban").isNull()) {
-                                account.setIban(accountNode.get("iban").asText());
-                            }
-
-                            BridgeAccount savedAccount = accountRepository.save(account);
-                            accounts.add(savedAccount);
-                            log.info("Account saved: {}", savedAccount.getAccountId());
-                        });
+    public Mono<UpsertResult> syncTransactions(String accessToken, String since) {
+        return bridgeMetrics.timeSync("transactions",
+                syncTransactionPages(null, accessToken, since, Mono.empty(), new SyncReport.Stage("transactions")));
+    }
+
+    public Mono<UpsertResult> syncTransactionsIncremental(String userUuid, String accessToken) {
+        return syncTransactionsIncremental(userUuid, accessToken, Mono.empty(), new SyncReport.Stage("transactions"));
+    }
+
+    private Mono<UpsertResult> syncTransactionsIncremental(String userUuid, String accessToken, Mono<Void> writeGate,
+                                                           SyncReport.Stage stage) {
+        return bridgeMetrics.timeSync("transactions", persist(() -> transactionBatchWriter.findWatermark(userUuid))
+                .flatMap(watermark -> {
+                    String since = watermark.map(Instant::toString).orElse(null);
+                    log.debug("Incremental transaction sync for user {} since {}", userUuid, since);
+
+                    return syncTransactionPages(userUuid, accessToken, since, writeGate, stage)
+                            .flatMap(result -> persist(() -> {
+                                transactionBatchWriter.completeSync(userUuid);
+                                return result;
+                            }));
+                })
+                .doOnError(error -> {
+                    if (!(error instanceof UpstreamStageFailure)) {
+                        fail(stage, error);
                     }
+                }));
+    }
 
-                    return accounts;
-                });
-    }
-
-    @Transactional
-    public Mono<List<BridgeTransaction>> syncTransactions(String accessToken, String since) {
-        return bridgeApiService.getTransactions(accessToken, since)
-                .map(response -> {
-                    List<BridgeTransaction> transactions = new ArrayList<>();
-                    JsonNode resources = response.get("resources");
-
-                    if (resources != null && resources.isArray()) {
-                        resources.forEach(txNode -> {
-                            BridgeTransaction transaction = new BridgeTransaction();
-                            transaction.setTransactionId(String.valueOf(txNode.get("id").asInt()));
-                            transaction.setAccountId(String.valueOf(txNode.get("account_id").asInt()));
-                            transaction.setDescription(txNode.get("description").asText());
-                            transaction.setAmount(BigDecimal.valueOf(txNode.get("amount").asDouble()));
-                            transaction.setCurrency(txNode.get("currency").asText());
-                            transaction.setDate(LocalDate.parse(txNode.get("date").asText()));
-
-                            if (txNode.has("operation_type")) {
-                                transaction.setOperationType(txNode.get("operation_type").asText());
-                            }
-                            if (txNode.has("category_id")) {
-                                transaction.setCategoryId(txNode.get("category_id").asInt());
-                            }
-                            if (txNode.has("is_deleted")) {
-                                transaction.setIsDeleted(txNode.get("is_deleted").asBoolean());
-                            }
-
-                            BridgeTransaction savedTx = transactionRepository.save(transaction);
-                            transactions.add(savedTx);
+    // Batches are only written once writeGate completes; until then concatMap holds the prefetched pages
+    private Mono<UpsertResult> syncTransactionPages(String userUuid, String accessToken, String since,
+                                                    Mono<Void> writeGate, SyncReport.Stage stage) {
+        Flux<List<BridgeTransaction>> batches = syncConfig.isStreaming()
+                ? bridgeApiService.streamTransactions(accessToken, since)
+                        .map(resourceMapper::mapTransaction)
+                        .buffer(syncConfig.getBatchSize())
+                : bridgeApiService.getTransactions(accessToken, since)
+                        .map(page -> {
+                            List<BridgeTransaction> transactions = new ArrayList<>();
+                            resources(page).forEach(txNode -> transactions.add(resourceMapper.mapTransaction(txNode)));
+                            return transactions;
                         });
 
-                        log.info("Saved {} transactions", transactions.size());
-                    }
+        return batches
+                .concatMap(batch -> writeGate.then(persist(() -> {
+                            partitionMaintenanceService.ensureTransactionPartitions(batch);
+                            return transactionBatchWriter.write(userUuid, batch);
+                        })), syncConfig.getPrefetch())
+                .doOnNext(result -> {
+                    stage.record(result);
+                    bridgeMetrics.countRows("transactions", result);
+                    log.debug("Transaction batch {} written for user {}: {} rows so far",
+                            stage.getBatches(), userUuid, stage.getFetched());
+                })
+                .reduce(UpsertResult.empty(), UpsertResult::plus)
+                .doOnSuccess(result -> log.info("Synced {} transactions: {} inserted, {} updated, {} unchanged",
+                        result.total(), result.getInserted(), result.getUpdated(), result.getUnchanged()));
+    }
+
+    private Mono<List<BridgeItem>> fetchItems(String userUuid, String accessToken) {
+        return bridgeApiService.getItems(accessToken)
+                .concatMapIterable(this::resources, syncConfig.getPrefetch())
+                .map(itemNode -> resourceMapper.mapItem(userUuid, itemNode))
+                .collectList();
+    }
+
+    private Mono<List<BridgeAccount>> fetchAccounts(String accessToken) {
+        return bridgeApiService.getAccounts(accessToken)
+                .concatMapIterable(this::resources, syncConfig.getPrefetch())
+                .map(resourceMapper::mapAccount)
+                .collectList();
+    }
+
+    private void commit(SyncReport.Stage stage, UpsertResult result, long start) {
+        if (result != null) {
+            stage.record(result);
+            bridgeMetrics.countRows(stage.getName(), result);
+        }
+        stage.setStatus(SyncReport.StageStatus.COMMITTED);
+        stage.setCommittedAfterMs((System.nanoTime() - start) / 1_000_000);
+        log.info("Sync stage committed {} {} {} {}",
+                StructuredArguments.kv("stage", stage.getName()),
+                StructuredArguments.kv("rows", stage.getFetched()),
+                StructuredArguments.kv("changed", stage.getInserted() + stage.getUpdated()),
+                StructuredArguments.kv("elapsed_ms", stage.getCommittedAfterMs()));
+    }
 
-                    return transactions;
-                });
+    private void fail(SyncReport.Stage stage, Throwable error) {
+        stage.setStatus(SyncReport.StageStatus.FAILED);
+        stage.setError(error.getMessage());
+    }
+
+    // The sync fails with the error of the first stage that failed on its own, not one replayed downstream
+    private static Throwable rootFailure(Throwable error) {
+        return Exceptions.unwrapMultiple(error).stream()
+                .filter(failure -> !(failure instanceof UpstreamStageFailure))
+                .findFirst()
+                .orElse(error);
+    }
+
+    // One summary event per sync, rendered as key=value in text logs and as fields in JSON logs
+    private SyncReport complete(SyncReport report, long start) {
+        report.setDurationMs((System.nanoTime() - start) / 1_000_000);
+        report.stages().stream()
+                .filter(stage -> stage.getStatus() == SyncReport.StageStatus.PENDING)
+                .forEach(stage -> stage.setStatus(SyncReport.StageStatus.SKIPPED));
+
+        log.info("Data sync {} {} {} {} {} {} {}",
+                report.isSuccessful() ? "completed" : "failed",
+                StructuredArguments.kv("user_uuid", report.getUserUuid()),
+                StructuredArguments.kv("items", report.getItems().getStatus()),
+                StructuredArguments.kv("accounts", report.getAccounts().getStatus()),
+                StructuredArguments.kv("transactions", report.getTransactions().getStatus()),
+                StructuredArguments.kv("transactions_changed",
+                        report.getTransactions().getInserted() + report.getTransactions().getUpdated()),
+                StructuredArguments.kv("duration_ms", report.getDurationMs()));
+        return report;
+    }
+
+    // Each call is one transaction of the writer it invokes, executed off the event loop
+    private <T> Mono<T> persist(Callable<T> work) {
+        return Mono.fromCallable(work).subscribeOn(persistenceScheduler);
+    }
+
+    private Iterable<JsonNode> resources(JsonNode page) {
+        JsonNode resources = page.get("resources");
+        return resources != null && resources.isArray() ? resources : List.of();
     }
 
     public List<BridgeAccount> getAccountsByItemId(String itemId) {
@@ -149,7 +266,94 @@ public class BridgeDataService {
         return transactionRepository.findByAccountId(accountId);
     }
 
+    public TransactionPage getTransactionPage(String accountId, LocalDate from, LocalDate to, Integer limit, String cursor) {
+        int pageSize = limit == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, MAX_PAGE_SIZE));
+        LocalDate rangeFrom = from != null ? from : MIN_DATE;
+        LocalDate rangeTo = to != null ? to : MAX_DATE;
+
+        // One extra row tells whether another page exists without a count query
+        List<TransactionView> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = transactionRepository.findPageByAccountId(accountId, rangeFrom, rangeTo, pageSize + 1);
+        } else {
+            String[] position = decodeCursor(cursor);
+            rows = transactionRepository.findPageByAccountIdAfter(accountId, rangeFrom, rangeTo,
+                    LocalDate.parse(position[0]), position[1], pageSize + 1);
+        }
+
+        boolean hasMore = rows.size() > pageSize;
+        List<TransactionView> page = hasMore ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasMore ? encodeCursor(page.get(page.size() - 1)) : null;
+        return new TransactionPage(page, nextCursor, hasMore);
+    }
+
+    private String encodeCursor(TransactionView last) {
+        String position = last.getDate() + "|" + last.getTransactionId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodeCursor(String cursor) {
+        try {
+            String[] position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", 2);
+            if (position.length != 2) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            LocalDate.parse(position[0]);
+            return position;
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public List<TransactionAggregate> getTransactionAggregates(TransactionFilter filter, List<String> groupBy, String source) {
+        Set<BridgeTransactionAggregateRepository.Dimension> dimensions = groupBy.stream()
+                .map(dimension -> parseOption(BridgeTransactionAggregateRepository.Dimension.class, "groupBy", dimension))
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(BridgeTransactionAggregateRepository.Dimension.class)));
+        BridgeTransactionAggregateRepository.Source aggregateSource =
+                parseOption(BridgeTransactionAggregateRepository.Source.class, "source", source);
+
+        // Rollups hold whole months, a bound inside a month would silently count the rest of it
+        if (aggregateSource == BridgeTransactionAggregateRepository.Source.ROLLUP) {
+            if (filter.getFrom() != null && filter.getFrom().getDayOfMonth() != 1) {
+                throw new InvalidRequestException(
+                        "from must be the first day of a month with source=rollup, use source=live for exact dates");
+            }
+            if (filter.getTo() != null && filter.getTo().getDayOfMonth() != filter.getTo().lengthOfMonth()) {
+                throw new InvalidRequestException(
+                        "to must be the last day of a month with source=rollup, use source=live for exact dates");
+            }
+        }
+        return aggregateRepository.aggregate(filter, dimensions, aggregateSource);
+    }
+
+    private static <E extends Enum<E>> E parseOption(Class<E> type, String name, String value) {
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Invalid " + name + ": " + value, e);
+        }
+    }
+
+    public List<BalancePoint> getBalanceHistory(String accountId, LocalDate from, LocalDate to) {
+        LocalDate rangeFrom = from != null ? from : LocalDate.now(ZoneOffset.UTC).minusDays(DEFAULT_BALANCE_HISTORY_DAYS);
+        LocalDate rangeTo = to != null ? to : LocalDate.now(ZoneOffset.UTC);
+        if (rangeFrom.isAfter(rangeTo)) {
+            throw new InvalidRequestException("from must not be after to");
+        }
+        return balanceHistoryRepository.findByAccountId(accountId,
+                rangeFrom.atStartOfDay(ZoneOffset.UTC).toInstant(),
+                rangeTo.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant());
+    }
+
     public List<BridgeItem> getItemsByUserUuid(String userUuid) {
         return itemRepository.findByUserUuid(userUuid);
     }
+
+    // Raised by a stage whose prerequisite failed, the stage is reported as skipped rather than failed
+    private static final class UpstreamStageFailure extends RuntimeException {
+
+        private UpstreamStageFailure(Throwable cause) {
+            super(cause.getMessage(), cause, false, false);
+        }
+    }
 }
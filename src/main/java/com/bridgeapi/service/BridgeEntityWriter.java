@@ -0,0 +1,39 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeAccount;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.repository.BridgeAccountBatchRepository;
+import com.bridgeapi.repository.BridgeItemBatchRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@RequiredArgsConstructor
+public class BridgeEntityWriter {
+
+    private final BridgeItemBatchRepository itemBatchRepository;
+    private final BridgeAccountBatchRepository accountBatchRepository;
+    private final ReadCacheInvalidator cacheInvalidator;
+
+    @Transactional
+    public UpsertResult upsertItems(String userUuid, List<BridgeItem> items) {
+        BridgeItemBatchRepository.ItemChanges changes = itemBatchRepository.upsertAll(items);
+        if (changes.result().getInserted() + changes.result().getUpdated() > 0) {
+            cacheInvalidator.evictItemsOfUser(userUuid);
+        }
+        cacheInvalidator.evictItemEntities(changes.updatedIds());
+        return changes.result();
+    }
+
+    // Only accounts whose content changed are written, their items' cached reads are evicted after commit
+    @Transactional
+    public UpsertResult upsertAccounts(List<BridgeAccount> accounts) {
+        BridgeAccountBatchRepository.AccountChanges changes = accountBatchRepository.upsertAll(accounts);
+        cacheInvalidator.evictAccountsOfItems(changes.changedItemIds());
+        return changes.result();
+    }
+}
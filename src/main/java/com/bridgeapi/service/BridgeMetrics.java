@@ -0,0 +1,146 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.exception.BridgeApiException;
+import com.bridgeapi.model.dto.UpsertResult;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Set;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+@Component
+@RequiredArgsConstructor
+public class BridgeMetrics {
+
+    private static final Set<String> WEBHOOK_TYPES = Set.of(
+            "item.status.updated", "item.refresh.completed", "item.refresh.failed", "item.error");
+
+    private final MeterRegistry meterRegistry;
+
+    // One sample per HTTP attempt, retries are recorded separately
+    public <T> Mono<T> timeApiRequest(String endpoint, Mono<T> request) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean stopped = new AtomicBoolean();
+            return request
+                    .doOnSuccess(value -> stop(sample, stopped, () -> apiTimer(endpoint, "2xx")))
+                    .doOnError(error -> stop(sample, stopped, () -> apiTimer(endpoint, status(error))))
+                    .doOnCancel(() -> stop(sample, stopped, () -> apiTimer(endpoint, "CANCELLED")));
+        });
+    }
+
+    public <T> Flux<T> timeApiRequest(String endpoint, Flux<T> request) {
+        return Flux.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean stopped = new AtomicBoolean();
+            return request
+                    .doOnComplete(() -> stop(sample, stopped, () -> apiTimer(endpoint, "2xx")))
+                    .doOnError(error -> stop(sample, stopped, () -> apiTimer(endpoint, status(error))))
+                    .doOnCancel(() -> stop(sample, stopped, () -> apiTimer(endpoint, "CANCELLED")));
+        });
+    }
+
+    public void countApiRetry(String endpoint, Throwable failure) {
+        Counter.builder("bridge.api.retries")
+                .description("Bridge API calls replayed after a failure")
+                .tag("endpoint", endpoint)
+                .tag("status", status(failure))
+                .register(meterRegistry)
+                .increment();
+    }
+
+    public <T> Mono<T> timeSync(String entity, Mono<T> sync) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            AtomicBoolean stopped = new AtomicBoolean();
+            return sync
+                    .doOnSuccess(value -> stop(sample, stopped, () -> syncTimer(entity, "success")))
+                    .doOnError(error -> stop(sample, stopped, () -> syncTimer(entity, "error")))
+                    .doOnCancel(() -> stop(sample, stopped, () -> syncTimer(entity, "cancelled")));
+        });
+    }
+
+    public void countRows(String entity, UpsertResult result) {
+        countRows(entity, "inserted", result.getInserted());
+        countRows(entity, "updated", result.getUpdated());
+        countRows(entity, "unchanged", result.getUnchanged());
+    }
+
+    public void countRows(String entity, String result, int rows) {
+        if (rows <= 0) {
+            return;
+        }
+        Counter.builder("bridge.sync.rows")
+                .description("Rows written by Bridge syncs")
+                .tag("entity", entity)
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment(rows);
+    }
+
+    public void countWebhook(String type, String outcome) {
+        Counter.builder("bridge.webhook.outcomes")
+                .description("Queued webhooks by final outcome of a processing attempt")
+                .tag("type", webhookType(type))
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // Event types come from the payload, anything unexpected shares one tag value
+    public static String webhookType(String type) {
+        return type != null && WEBHOOK_TYPES.contains(type) ? type : "unknown";
+    }
+
+    // retryWhen also cancels a source that has already failed, only the first signal is recorded
+    private static void stop(Timer.Sample sample, AtomicBoolean stopped, Supplier<Timer> timer) {
+        if (stopped.compareAndSet(false, true)) {
+            sample.stop(timer.get());
+        }
+    }
+
+    private Timer apiTimer(String endpoint, String status) {
+        return Timer.builder("bridge.api.requests")
+                .description("Bridge API request latency")
+                .tag("endpoint", endpoint)
+                .tag("status", status)
+                .register(meterRegistry);
+    }
+
+    private Timer syncTimer(String entity, String outcome) {
+        return Timer.builder("bridge.sync.duration")
+                .description("Duration of a Bridge sync per entity type")
+                .tag("entity", entity)
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private static String status(Throwable error) {
+        if (error instanceof BridgeApiException bridgeError) {
+            return String.valueOf(bridgeError.getStatusCode());
+        }
+        if (error instanceof CallNotPermittedException) {
+            return "CIRCUIT_OPEN";
+        }
+        if (error instanceof RequestNotPermitted) {
+            return "RATE_LIMITED";
+        }
+        if (error instanceof TimeoutException || error.getCause() instanceof TimeoutException) {
+            return "TIMEOUT";
+        }
+        if (error instanceof WebClientRequestException) {
+            return "IO_ERROR";
+        }
+        return "CLIENT_ERROR";
+    }
+}
@@ -0,0 +1,77 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.model.entity.BridgeAccount;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+
+// Maps Bridge API resources to entities, kept stateless so it can be benchmarked on its own
+@Component
+public class BridgeResourceMapper {
+
+    public BridgeItem mapItem(String userUuid, JsonNode itemNode) {
+        BridgeItem item = new BridgeItem();
+        item.setItemId(String.valueOf(itemNode.get("id").asLong()));
+        item.setUserUuid(userUuid);
+        item.setStatus(itemNode.get("status").asText());
+
+        if (itemNode.hasNonNull("provider_id")) {
+            item.setProviderId(itemNode.get("provider_id").asInt());
+        }
+        if (itemNode.has("status_code_info")) {
+            item.setStatusCodeInfo(itemNode.get("status_code_info").asText());
+        }
+        if (itemNode.has("status_code_description")) {
+            item.setStatusCodeDescription(itemNode.get("status_code_description").asText());
+        }
+
+        return item;
+    }
+
+    public BridgeAccount mapAccount(JsonNode accountNode) {
+        BridgeAccount account = new BridgeAccount();
+        account.setAccountId(String.valueOf(accountNode.get("id").asLong()));
+        account.setItemId(String.valueOf(accountNode.get("item_id").asLong()));
+        account.setName(accountNode.get("name").asText());
+        account.setBalance(BigDecimal.valueOf(accountNode.get("balance").asDouble()));
+        account.setCurrency(accountNode.get("currency").asText());
+        account.setType(accountNode.get("type").asText());
+        account.setStatus(accountNode.get("status").asText());
+
+        if (accountNode.has("iban") && !accountNode.get("iban").isNull()) {
+            account.setIban(accountNode.get("iban").asText());
+        }
+
+        return account;
+    }
+
+    public BridgeTransaction mapTransaction(JsonNode txNode) {
+        BridgeTransaction transaction = new BridgeTransaction();
+        transaction.setTransactionId(String.valueOf(txNode.get("id").asLong()));
+        transaction.setAccountId(String.valueOf(txNode.get("account_id").asLong()));
+        transaction.setDescription(txNode.get("description").asText());
+        transaction.setAmount(BigDecimal.valueOf(txNode.get("amount").asDouble()));
+        transaction.setCurrency(txNode.get("currency").asText());
+        transaction.setDate(LocalDate.parse(txNode.get("date").asText()));
+
+        if (txNode.has("operation_type")) {
+            transaction.setOperationType(txNode.get("operation_type").asText());
+        }
+        if (txNode.has("category_id")) {
+            transaction.setCategoryId(txNode.get("category_id").asInt());
+        }
+        if (txNode.has("is_deleted")) {
+            transaction.setIsDeleted(txNode.get("is_deleted").asBoolean());
+        }
+        if (txNode.hasNonNull("updated_at")) {
+            transaction.setBridgeUpdatedAt(Instant.parse(txNode.get("updated_at").asText()));
+        }
+
+        return transaction;
+    }
+}
@@ -0,0 +1,149 @@
+package com.bridgeapi.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+public class BridgeResourceStreamParser {
+
+    private final ObjectMapper objectMapper;
+
+    public Flux<JsonNode> parseResources(Flux<DataBuffer> body, Consumer<String> nextUriConsumer) {
+        return Flux.defer(() -> {
+            ResourceTokenizer tokenizer = new ResourceTokenizer(nextUriConsumer);
+            return body.concatMapIterable(tokenizer::feed)
+                    .concatWith(Flux.defer(() -> Flux.fromIterable(tokenizer.endOfInput())));
+        });
+    }
+
+    /**
+     * Feeds response chunks into a non-blocking parser and only materializes one element of the
+     * top-level "resources" array at a time, so the full response never sits in memory. The
+     * pagination.next_uri cursor is reported to the consumer when it is encountered.
+     */
+    private final class ResourceTokenizer {
+
+        private final JsonParser parser;
+        private final Consumer<String> nextUriConsumer;
+        private int depth;
+        private boolean resourcesNext;
+        private boolean inResources;
+        private boolean paginationNext;
+        private boolean inPagination;
+        private boolean nextUriNext;
+        private TokenBuffer element;
+        private int elementDepth;
+
+        private ResourceTokenizer(Consumer<String> nextUriConsumer) {
+            this.nextUriConsumer = nextUriConsumer;
+            try {
+                this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        private List<JsonNode> feed(DataBuffer buffer) {
+            try {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).feedInput(bytes, 0, bytes.length);
+                return drain();
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            } finally {
+                DataBufferUtils.release(buffer);
+            }
+        }
+
+        private List<JsonNode> endOfInput() {
+            try {
+                ((ByteArrayFeeder) parser.getNonBlockingInputFeeder()).endOfInput();
+                return drain();
+            } catch (IOException e) {
+                throw Exceptions.propagate(e);
+            }
+        }
+
+        private List<JsonNode> drain() throws IOException {
+            List<JsonNode> elements = new ArrayList<>();
+            JsonToken token;
+
+            while ((token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+                if (element != null) {
+                    element.copyCurrentEvent(parser);
+                    if (token.isStructStart()) {
+                        elementDepth++;
+                    } else if (token.isStructEnd()) {
+                        elementDepth--;
+                    }
+                    if (elementDepth == 0) {
+                        elements.add(completeElement());
+                    }
+                    continue;
+                }
+
+                if (inResources) {
+                    if (token == JsonToken.END_ARRAY) {
+                        inResources = false;
+                        depth--;
+                        continue;
+                    }
+                    element = new TokenBuffer(parser);
+                    element.copyCurrentEvent(parser);
+                    elementDepth = token.isStructStart() ? 1 : 0;
+                    if (elementDepth == 0) {
+                        elements.add(completeElement());
+                    }
+                    continue;
+                }
+
+                if (token == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    resourcesNext = depth == 1 && "resources".equals(name);
+                    paginationNext = depth == 1 && "pagination".equals(name);
+                    nextUriNext = inPagination && depth == 2 && "next_uri".equals(name);
+                    continue;
+                }
+                if (nextUriNext && token == JsonToken.VALUE_STRING && !parser.getText().isEmpty()) {
+                    nextUriConsumer.accept(parser.getText());
+                }
+                if (token.isStructStart()) {
+                    depth++;
+                    inResources = resourcesNext && token == JsonToken.START_ARRAY;
+                    inPagination = inPagination || (paginationNext && token == JsonToken.START_OBJECT);
+                } else if (token.isStructEnd()) {
+                    depth--;
+                    inPagination = inPagination && depth >= 2;
+                }
+                resourcesNext = false;
+                paginationNext = false;
+                nextUriNext = false;
+            }
+
+            return elements;
+        }
+
+        private JsonNode completeElement() throws IOException {
+            JsonNode node = objectMapper.readTree(element.asParser(objectMapper));
+            element = null;
+            return node;
+        }
+    }
+}
@@ -7,8 +7,8 @@ import com.bridgeapi.repository.BridgeUserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 @Slf4j
 @Service
@@ -17,8 +17,8 @@ public class BridgeUserService {
 
     private final BridgeUserRepository userRepository;
     private final BridgeApiService bridgeApiService;
+    private final Scheduler persistenceScheduler;
 
-    @Transactional
     public Mono<BridgeUser> createUser(CreateUserRequest request) {
         log.info("Creating user with email: {}", request.getEmail());
 
@@ -26,10 +26,9 @@ public class BridgeUserService {
                 .map(Mono::just)
                 .orElseGet(() -> bridgeApiService.createUser(request)
                         .map(this::mapToEntity)
-                        .doOnSuccess(user -> {
-                            BridgeUser savedUser = userRepository.save(user);
-                            log.info("User saved to database: {}", savedUser.getBridgeUuid());
-                        }));
+                        .flatMap(user -> Mono.fromCallable(() -> userRepository.save(user))
+                                .subscribeOn(persistenceScheduler))
+                        .doOnSuccess(savedUser -> log.info("User saved to database: {}", savedUser.getBridgeUuid())));
     }
 
     public BridgeUser getUserByUuid(String uuid) {
@@ -0,0 +1,296 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.BulkSyncConfig;
+import com.bridgeapi.model.dto.BulkSyncJobStatus;
+import com.bridgeapi.model.entity.BridgeBulkSyncJob;
+import com.bridgeapi.model.entity.BridgeBulkSyncTask;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.model.entity.BridgeUser;
+import com.bridgeapi.repository.BridgeBulkSyncJobRepository;
+import com.bridgeapi.repository.BridgeBulkSyncTaskRepository;
+import com.bridgeapi.repository.BridgeItemRepository;
+import com.bridgeapi.repository.BridgeUserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkSyncService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    // Over-fetch so tasks of saturated providers can be skipped without starving the others
+    private static final int CANDIDATES_PER_SLOT = 4;
+
+    private final BridgeBulkSyncJobRepository jobRepository;
+    private final BridgeBulkSyncTaskRepository taskRepository;
+    private final BridgeUserRepository userRepository;
+    private final BridgeItemRepository itemRepository;
+    private final AuthTokenCache authTokenCache;
+    private final BridgeDataService dataService;
+    private final BulkSyncConfig bulkConfig;
+    private final TransactionTemplate transactionTemplate;
+    private final Scheduler persistenceScheduler;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Integer, Integer> providerInFlight = new ConcurrentHashMap<>();
+
+    @Transactional
+    public BridgeBulkSyncJob createJob(Collection<String> userUuids) {
+        List<String> users = userUuids == null || userUuids.isEmpty()
+                ? userRepository.findAll().stream().map(BridgeUser::getBridgeUuid).toList()
+                : userUuids.stream().distinct().toList();
+        if (users.isEmpty()) {
+            throw new RuntimeException("No users to sync");
+        }
+
+        List<BridgeItem> items = userUuids == null || userUuids.isEmpty()
+                ? itemRepository.findAll()
+                : itemRepository.findByUserUuidIn(users);
+        Map<String, String> providersByUser = items.stream()
+                .filter(item -> item.getProviderId() != null)
+                .collect(Collectors.groupingBy(BridgeItem::getUserUuid, Collectors.collectingAndThen(
+                        Collectors.mapping(BridgeItem::getProviderId, Collectors.toList()),
+                        BulkSyncService::joinProviderIds)));
+
+        BridgeBulkSyncJob job = new BridgeBulkSyncJob();
+        job.setTotalUsers(users.size());
+        BridgeBulkSyncJob saved = jobRepository.save(job);
+
+        List<BridgeBulkSyncTask> tasks = users.stream()
+                .map(userUuid -> {
+                    BridgeBulkSyncTask task = new BridgeBulkSyncTask();
+                    task.setJobId(saved.getId());
+                    task.setUserUuid(userUuid);
+                    task.setProviderIds(providersByUser.get(userUuid));
+                    return task;
+                })
+                .toList();
+        taskRepository.saveAll(tasks);
+
+        log.info("Bulk sync job {} created for {} user(s)", saved.getId(), users.size());
+        return saved;
+    }
+
+    // Jobs and tasks live in the database: after a restart the dispatcher simply picks up the pending
+    // tasks, and tasks left RUNNING by a dead instance come back once their lease expires.
+    @Scheduled(fixedDelayString = "${bridge.sync.bulk.dispatch-interval-ms:1000}")
+    public void dispatch() {
+        int freeSlots = bulkConfig.getMaxConcurrentUsers() - inFlight.get();
+        if (freeSlots > 0) {
+            List<BridgeBulkSyncTask> claimed = new ArrayList<>();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    LocalDateTime now = LocalDateTime.now();
+                    for (BridgeBulkSyncTask task : taskRepository.lockPending(now, freeSlots * CANDIDATES_PER_SLOT)) {
+                        if (claimed.size() >= freeSlots) {
+                            break;
+                        }
+                        if (task.providers().isEmpty()) {
+                            task.setProviderIds(storedProviderIds(task.getUserUuid()));
+                        }
+                        // Users without known providers take their slots once start() has asked Bridge
+                        if (!task.providers().isEmpty() && !tryAcquireProviders(task.providers())) {
+                            continue;
+                        }
+                        task.setStatus(BridgeBulkSyncTask.Status.RUNNING);
+                        task.setLockedAt(now);
+                        task.setAttempts(task.getAttempts() + 1);
+                        claimed.add(task);
+                    }
+                    taskRepository.saveAll(claimed);
+                });
+            } catch (RuntimeException e) {
+                claimed.forEach(task -> releaseProviders(task.providers()));
+                throw e;
+            }
+            claimed.forEach(this::start);
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            int completed = jobRepository.completeFinishedJobs();
+            if (completed > 0) {
+                log.info("{} bulk sync job(s) completed", completed);
+            }
+        });
+    }
+
+    private void start(BridgeBulkSyncTask task) {
+        inFlight.incrementAndGet();
+        String userUuid = task.getUserUuid();
+        log.debug("Bulk sync of user {} started (attempt {})", userUuid, task.getAttempts());
+
+        // Same WebClient, connection pool, rate limiter and circuit breakers as single-user syncs
+        authTokenCache.getToken(userUuid)
+                .flatMap(token -> admit(task, token.getAccessToken())
+                        .flatMap(admitted -> admitted
+                                ? dataService.syncUserData(userUuid, token.getAccessToken()).thenReturn(true)
+                                : Mono.just(false)))
+                .defaultIfEmpty(true)
+                .subscribe(
+                        synced -> persistenceScheduler.schedule(() -> {
+                            if (synced) {
+                                finish(task, null);
+                            } else {
+                                postpone(task);
+                            }
+                        }),
+                        error -> persistenceScheduler.schedule(() -> finish(task, error)));
+    }
+
+    /*
+     * Tasks claimed with providers already hold their slots. The others belong to users with no stored
+     * item yet, typically a first bulk sync: their banks are read from Bridge, then the same per-provider
+     * limit applies before the full sync starts.
+     */
+    private Mono<Boolean> admit(BridgeBulkSyncTask task, String accessToken) {
+        if (!task.providers().isEmpty()) {
+            return Mono.just(true);
+        }
+        return dataService.fetchProviderIds(accessToken)
+                .map(providers -> {
+                    task.setProviderIds(providers.isEmpty() ? null : joinProviderIds(providers));
+                    return tryAcquireProviders(task.providers());
+                });
+    }
+
+    // Providers saturated: back to the queue without consuming an attempt, the slots were never taken
+    private void postpone(BridgeBulkSyncTask task) {
+        try {
+            log.debug("Bulk sync of user {} postponed, providers {} are busy", task.getUserUuid(), task.getProviderIds());
+            task.setStatus(BridgeBulkSyncTask.Status.PENDING);
+            task.setLockedAt(null);
+            task.setAttempts(task.getAttempts() - 1);
+            task.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(bulkConfig.getDispatchIntervalMs())));
+            taskRepository.save(task);
+        } catch (Exception e) {
+            log.error("Unable to postpone bulk sync of user {}", task.getUserUuid(), e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private String storedProviderIds(String userUuid) {
+        List<Integer> providers = itemRepository.findByUserUuid(userUuid).stream()
+                .map(BridgeItem::getProviderId)
+                .filter(Objects::nonNull)
+                .toList();
+        return providers.isEmpty() ? null : joinProviderIds(providers);
+    }
+
+    private static String joinProviderIds(Collection<Integer> providers) {
+        return providers.stream()
+                .map(String::valueOf)
+                .collect(Collectors.collectingAndThen(Collectors.toCollection(TreeSet::new),
+                        ids -> String.join(",", ids)));
+    }
+
+    private void finish(BridgeBulkSyncTask task, Throwable error) {
+        try {
+            task.setLockedAt(null);
+            if (error == null) {
+                task.setStatus(BridgeBulkSyncTask.Status.DONE);
+                task.setFinishedAt(LocalDateTime.now());
+                task.setLastError(null);
+            } else {
+                log.warn("Bulk sync of user {} failed (attempt {}): {}",
+                        task.getUserUuid(), task.getAttempts(), error.getMessage());
+                task.setLastError(truncate(error.getMessage()));
+
+                if (task.getAttempts() >= bulkConfig.getMaxAttempts()) {
+                    task.setStatus(BridgeBulkSyncTask.Status.FAILED);
+                    task.setFinishedAt(LocalDateTime.now());
+                } else {
+                    long backoff = bulkConfig.getRetryBackoffMs() * (1L << Math.min(task.getAttempts() - 1, 10));
+                    task.setStatus(BridgeBulkSyncTask.Status.PENDING);
+                    task.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+                }
+            }
+            taskRepository.save(task);
+        } catch (Exception e) {
+            log.error("Unable to record bulk sync result of user {}", task.getUserUuid(), e);
+        } finally {
+            releaseProviders(task.providers());
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // The dispatcher and admit() both acquire, check and increment must be atomic
+    private synchronized boolean tryAcquireProviders(List<Integer> providers) {
+        int limit = bulkConfig.getMaxConcurrentPerProvider();
+        if (providers.stream().anyMatch(provider -> providerInFlight.getOrDefault(provider, 0) >= limit)) {
+            return false;
+        }
+        providers.forEach(provider -> providerInFlight.merge(provider, 1, Integer::sum));
+        return true;
+    }
+
+    private synchronized void releaseProviders(List<Integer> providers) {
+        providers.forEach(provider -> providerInFlight.computeIfPresent(provider, (key, count) -> count > 1 ? count - 1 : null));
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.sync.bulk.lease-timeout-ms:1800000}")
+    @Transactional
+    public void releaseStaleTasks() {
+        int released = taskRepository.releaseStale(
+                LocalDateTime.now().minus(Duration.ofMillis(bulkConfig.getLeaseTimeoutMs())));
+        if (released > 0) {
+            log.warn("Released {} bulk sync task(s) left RUNNING by a previous instance", released);
+        }
+    }
+
+    public BulkSyncJobStatus getStatus(String jobId) {
+        BridgeBulkSyncJob job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new RuntimeException("Bulk sync job not found: " + jobId));
+
+        long pending = taskRepository.countByJobIdAndStatus(jobId, BridgeBulkSyncTask.Status.PENDING);
+        long running = taskRepository.countByJobIdAndStatus(jobId, BridgeBulkSyncTask.Status.RUNNING);
+        long done = taskRepository.countByJobIdAndStatus(jobId, BridgeBulkSyncTask.Status.DONE);
+        long failed = taskRepository.countByJobIdAndStatus(jobId, BridgeBulkSyncTask.Status.FAILED);
+
+        LocalDateTime end = Objects.requireNonNullElseGet(job.getFinishedAt(), LocalDateTime::now);
+        long elapsedSeconds = Duration.between(job.getCreatedAt(), end).toSeconds();
+        double usersPerMinute = elapsedSeconds > 0 ? (done + failed) * 60.0 / elapsedSeconds : 0;
+
+        List<BulkSyncJobStatus.Failure> failures = taskRepository
+                .findTop100ByJobIdAndLastErrorIsNotNullOrderByFinishedAtDesc(jobId).stream()
+                .map(task -> new BulkSyncJobStatus.Failure(
+                        task.getUserUuid(), task.getStatus().name(), task.getAttempts(), task.getLastError()))
+                .toList();
+
+        return new BulkSyncJobStatus(job.getId(), job.getStatus().name(), job.getTotalUsers(),
+                pending, running, done, failed, job.getCreatedAt(), job.getFinishedAt(),
+                elapsedSeconds, usersPerMinute, failures);
+    }
+
+    public List<BulkSyncJobStatus> getRecentJobs() {
+        return jobRepository.findTop20ByOrderByCreatedAtDesc().stream()
+                .map(job -> getStatus(job.getId()))
+                .toList();
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
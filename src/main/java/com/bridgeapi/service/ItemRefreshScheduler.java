@@ -0,0 +1,152 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.BridgeSyncConfig;
+import com.bridgeapi.model.dto.WebhookEvent;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.repository.BridgeItemRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.contextpropagation.ObservationThreadLocalAccessor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ItemRefreshScheduler {
+
+    private final AuthTokenCache authTokenCache;
+    private final BridgeDataService dataService;
+    private final BridgeItemRepository itemRepository;
+    private final BridgeSyncConfig syncConfig;
+    private final TaskScheduler taskScheduler;
+    private final ObservationRegistry observationRegistry;
+
+    private final Map<String, PendingRefresh> pending = new ConcurrentHashMap<>();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public void requestRefresh(WebhookEvent event) {
+        if (event.getItemId() == null) {
+            log.warn("Refresh event without item id, ignoring");
+            return;
+        }
+
+        String itemId = String.valueOf(event.getItemId());
+        if (!hasChanges(event)) {
+            log.debug("Refresh of item {} reported no transaction changes, skipping sync", itemId);
+            return;
+        }
+
+        String userUuid = event.getUserUuid() != null
+                ? event.getUserUuid()
+                : itemRepository.findByItemId(itemId).map(BridgeItem::getUserUuid).orElse(null);
+        if (userUuid == null) {
+            log.warn("Cannot resolve user of item {}, skipping sync", itemId);
+            return;
+        }
+
+        // The sync covers every item of the user, so refreshes of several items share one run
+        pending.compute(userUuid, (key, refresh) -> {
+            if (refresh == null) {
+                refresh = new PendingRefresh(observationRegistry.getCurrentObservation());
+                scheduleRun(userUuid);
+            }
+            refresh.merge(itemId, event);
+            return refresh;
+        });
+    }
+
+    private void scheduleRun(String userUuid) {
+        Duration window = Duration.ofMillis(syncConfig.getRefreshCoalesceWindowMs());
+        taskScheduler.schedule(() -> run(userUuid), Instant.now().plus(window));
+    }
+
+    private void run(String userUuid) {
+        // Never sync the same user twice in parallel, events received meanwhile wait for the next window
+        if (!running.add(userUuid)) {
+            scheduleRun(userUuid);
+            return;
+        }
+
+        PendingRefresh refresh = pending.remove(userUuid);
+        if (refresh == null) {
+            running.remove(userUuid);
+            return;
+        }
+
+        log.info("Syncing user {} after {} refresh event(s) on item(s) {}: {} new, {} updated, {} deleted transactions",
+                userUuid, refresh.events, refresh.itemIds, refresh.newTransactions,
+                refresh.updatedTransactions, refresh.deletedTransactions);
+
+        // Linked to the webhook that opened the coalescing window, so the trace spans both
+        Observation observation = Observation.createNotStarted("bridge.sync.refresh", observationRegistry)
+                .parentObservation(refresh.trigger)
+                .lowCardinalityKeyValue("trigger", "webhook")
+                .highCardinalityKeyValue("user.uuid", userUuid)
+                .highCardinalityKeyValue("item.ids", String.join(",", refresh.itemIds))
+                .highCardinalityKeyValue("events", String.valueOf(refresh.events))
+                .start();
+
+        authTokenCache.getToken(userUuid)
+                .flatMap(token -> dataService.syncTransactionsIncremental(userUuid, token.getAccessToken()))
+                .doOnError(observation::error)
+                .contextWrite(context -> context.put(ObservationThreadLocalAccessor.KEY, observation))
+                .doFinally(signal -> {
+                    observation.stop();
+                    running.remove(userUuid);
+                })
+                .subscribe(
+                        result -> log.info("Webhook-triggered sync of user {} done: {}", userUuid, result),
+                        error -> log.error("Webhook-triggered sync of user {} failed", userUuid, error));
+    }
+
+    // Counters are optional in Bridge payloads: only skip when they are present and all zero
+    private boolean hasChanges(WebhookEvent event) {
+        if (Boolean.TRUE.equals(event.getFullRefresh())) {
+            return true;
+        }
+        if (event.getNbNewTransactions() == null
+                && event.getNbUpdatedTransactions() == null
+                && event.getNbDeletedTransactions() == null) {
+            return true;
+        }
+        return count(event.getNbNewTransactions())
+                + count(event.getNbUpdatedTransactions())
+                + count(event.getNbDeletedTransactions()) > 0;
+    }
+
+    private static int count(Integer value) {
+        return value != null ? value : 0;
+    }
+
+    private static final class PendingRefresh {
+
+        private final Observation trigger;
+        private final Set<String> itemIds = new TreeSet<>();
+        private int events;
+        private int newTransactions;
+        private int updatedTransactions;
+        private int deletedTransactions;
+
+        private PendingRefresh(Observation trigger) {
+            this.trigger = trigger;
+        }
+
+        private void merge(String itemId, WebhookEvent event) {
+            itemIds.add(itemId);
+            events++;
+            newTransactions += count(event.getNbNewTransactions());
+            updatedTransactions += count(event.getNbUpdatedTransactions());
+            deletedTransactions += count(event.getNbDeletedTransactions());
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.PartitionConfig;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.bridgeapi.repository.BridgeBalanceHistoryRepository;
+import com.bridgeapi.repository.BridgeTransactionPartitionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final BridgeBalanceHistoryRepository balanceHistoryRepository;
+    private final BridgeTransactionPartitionRepository transactionPartitionRepository;
+    private final PartitionConfig partitionConfig;
+
+    // Months whose transaction partition is known to exist, so batches only reach the database for new ones
+    private final Set<YearMonth> transactionMonths = ConcurrentHashMap.newKeySet();
+
+    // Partitions are created months in advance so rows never land in the default partition
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "0 0 4 1 * *")
+    public void ensurePartitions() {
+        int monthsAhead = partitionConfig.getMonthsAhead();
+        try {
+            balanceHistoryRepository.ensurePartitions(monthsAhead);
+            log.info("Balance history partitions ensured {} month(s) ahead", monthsAhead);
+        } catch (RuntimeException e) {
+            log.error("Unable to create balance history partitions", e);
+        }
+
+        YearMonth current = YearMonth.now(ZoneOffset.UTC);
+        try {
+            ensureTransactionPartitions(current, current.plusMonths(monthsAhead));
+            log.info("Transaction partitions ensured {} month(s) ahead", monthsAhead);
+        } catch (RuntimeException e) {
+            log.error("Unable to create transaction partitions", e);
+        }
+
+        detachExpiredTransactionPartitions(current);
+    }
+
+    /**
+     * Creates the monthly partitions a batch needs before it is written. Historical imports can bring
+     * months older than any partition, which would otherwise pile up in the default partition.
+     * Called outside the write transaction: attaching a partition locks the default partition.
+     */
+    public void ensureTransactionPartitions(Collection<BridgeTransaction> batch) {
+        List<YearMonth> missing = batch.stream()
+                .map(BridgeTransaction::getDate)
+                .filter(Objects::nonNull)
+                .map(YearMonth::from)
+                .distinct()
+                .filter(month -> !transactionMonths.contains(month))
+                .sorted()
+                .toList();
+        if (!missing.isEmpty()) {
+            ensureTransactionPartitions(missing.get(0), missing.get(missing.size() - 1));
+        }
+    }
+
+    private void ensureTransactionPartitions(YearMonth from, YearMonth to) {
+        int created = transactionPartitionRepository.ensurePartitions(from.atDay(1), to.atEndOfMonth());
+        if (created > 0) {
+            log.info("Created {} transaction partition(s) between {} and {}", created, from, to);
+        }
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            transactionMonths.add(month);
+        }
+    }
+
+    private void detachExpiredTransactionPartitions(YearMonth current) {
+        int retentionMonths = partitionConfig.getTransactionRetentionMonths();
+        if (retentionMonths <= 0) {
+            return;
+        }
+
+        LocalDate before = current.minusMonths(retentionMonths).atDay(1);
+        try {
+            List<String> detached = transactionPartitionRepository.detachPartitionsBefore(before);
+            detached.forEach(name -> transactionMonths.remove(
+                    YearMonth.parse(name.substring(name.length() - 6), PARTITION_SUFFIX)));
+            if (!detached.isEmpty()) {
+                log.info("Detached {} transaction partition(s) before {} for archiving: {}",
+                        detached.size(), before, detached);
+            }
+        } catch (RuntimeException e) {
+            log.error("Unable to detach transaction partitions before {}", before, e);
+        }
+    }
+}
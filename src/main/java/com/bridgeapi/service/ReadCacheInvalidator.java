@@ -0,0 +1,73 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.CacheConfig;
+import com.bridgeapi.model.entity.BridgeItem;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReadCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final EntityManagerFactory entityManagerFactory;
+
+    public void evictItemsOfUser(String userUuid) {
+        evict(CacheConfig.ITEMS_BY_USER, userUuid);
+    }
+
+    public void evictAccountsOfItem(String itemId) {
+        evict(CacheConfig.ACCOUNTS_BY_ITEM, itemId);
+        evict(CacheConfig.SELECTED_ACCOUNT_BY_ITEM, itemId);
+    }
+
+    public void evictAccountsOfItems(Collection<String> itemIds) {
+        itemIds.forEach(this::evictAccountsOfItem);
+    }
+
+    // Items written with plain JDBC are invisible to Hibernate, their second-level cache entries must go
+    public void evictItemEntities(Collection<String> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> ids.forEach(id -> entityManagerFactory.getCache().evict(BridgeItem.class, id)));
+    }
+
+    private void evict(String cacheName, String key) {
+        if (key == null) {
+            return;
+        }
+        afterCommit(() -> doEvict(cacheName, key));
+    }
+
+    // Evicting before commit would let a concurrent read cache the old rows again
+    private void afterCommit(Runnable eviction) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        } else {
+            eviction.run();
+        }
+    }
+
+    private void doEvict(String cacheName, String key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(key);
+            log.debug("Evicted {} from cache {}", key, cacheName);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.model.entity.BridgeSyncState;
+import com.bridgeapi.model.entity.BridgeTransaction;
+import com.bridgeapi.repository.BridgeSyncStateRepository;
+import com.bridgeapi.repository.BridgeTransactionBatchRepository;
+import com.bridgeapi.repository.BridgeTransactionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionBatchWriter {
+
+    private final BridgeTransactionBatchRepository transactionBatchRepository;
+    private final BridgeSyncStateRepository syncStateRepository;
+    private final BridgeTransactionRollupRepository rollupRepository;
+
+    /**
+     * Upserts a batch, refreshes the monthly rollups it touches and, when the sync is tracked for a user,
+     * moves that user's updated_at cursor forward, all in the same database transaction.
+     */
+    @Transactional
+    public UpsertResult write(String userUuid, List<BridgeTransaction> batch) {
+        Set<BridgeTransactionRollupRepository.MonthGroup> groups = rollupRepository.affectedGroups(batch);
+        UpsertResult result = transactionBatchRepository.upsertAll(batch);
+        if (result.getInserted() + result.getUpdated() > 0) {
+            rollupRepository.refresh(groups);
+        }
+
+        if (userUuid != null) {
+            batch.stream()
+                    .map(BridgeTransaction::getBridgeUpdatedAt)
+                    .filter(Objects::nonNull)
+                    .max(Instant::compareTo)
+                    .ifPresent(cursor -> syncStateRepository.advanceCursor(userUuid, BridgeSyncState.ALL_ITEMS, cursor));
+        }
+
+        return result;
+    }
+
+    /**
+     * Promotes the cursor reached by a completed sync to the since watermark used by the next one.
+     * A sync that fails halfway keeps the previous watermark and re-fetches the same delta.
+     */
+    @Transactional
+    public void completeSync(String userUuid) {
+        syncStateRepository.completeSync(userUuid, BridgeSyncState.ALL_ITEMS);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> findWatermark(String userUuid) {
+        return syncStateRepository.findByUserUuidAndItemId(userUuid, BridgeSyncState.ALL_ITEMS)
+                .map(BridgeSyncState::getLastSince);
+    }
+}
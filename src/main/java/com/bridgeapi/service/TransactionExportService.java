@@ -0,0 +1,171 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.ExportConfig;
+import com.bridgeapi.exception.ExportRejectedException;
+import com.bridgeapi.model.dto.TransactionFilter;
+import com.bridgeapi.repository.BridgeTransactionExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.catalina.connector.ClientAbortException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TransactionExportService {
+
+    public enum Format {
+        NDJSON, CSV
+    }
+
+    private static final String[] COLUMNS = {
+            "transaction_id", "account_id", "item_id", "user_uuid", "description", "amount", "currency",
+            "date", "operation_type", "category_id", "category_name", "is_deleted", "updated_at"
+    };
+
+    private final BridgeTransactionExportRepository exportRepository;
+    private final ObjectMapper objectMapper;
+    private final ExportConfig exportConfig;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // Called on the request thread so a saturated export is answered with a 503 before the response is committed.
+    // The slot is released by export().
+    public void acquireSlot() {
+        if (inFlight.incrementAndGet() > exportConfig.getMaxConcurrent()) {
+            inFlight.decrementAndGet();
+            throw new ExportRejectedException(
+                    "Too many exports in progress (" + exportConfig.getMaxConcurrent() + "), retry later");
+        }
+    }
+
+    public long export(TransactionFilter filter, Format format, OutputStream out) throws IOException {
+        AtomicLong rows = new AtomicLong();
+        long start = System.currentTimeMillis();
+
+        try {
+            write(filter, format, out, rows);
+        } catch (UncheckedIOException e) {
+            throw logAbort(e.getCause(), format, rows.get());
+        } catch (IOException e) {
+            throw logAbort(e, format, rows.get());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+
+        log.info("Exported {} transaction(s) as {} in {} ms", rows.get(), format, System.currentTimeMillis() - start);
+        return rows.get();
+    }
+
+    private void write(TransactionFilter filter, Format format, OutputStream out, AtomicLong rows) throws IOException {
+        if (format == Format.CSV) {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            writer.write(String.join(",", COLUMNS));
+            writer.write('\n');
+            exportRepository.stream(filter, rs -> {
+                writeCsvRow(writer, rs);
+                rows.incrementAndGet();
+            });
+            writer.flush();
+        } else {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+            exportRepository.stream(filter, rs -> {
+                writeJsonRow(generator, rs);
+                rows.incrementAndGet();
+            });
+            if (rows.get() > 0) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+
+    // A closed connection is a normal end for a long download, the exception handler only logs it at debug
+    private IOException logAbort(IOException e, Format format, long rows) {
+        if (e instanceof ClientAbortException || e instanceof AsyncRequestNotUsableException) {
+            log.info("Export as {} aborted by the client after {} transaction(s)", format, rows);
+        }
+        return e;
+    }
+
+    private void writeJsonRow(JsonGenerator generator, ResultSet rs) throws SQLException {
+        try {
+            generator.writeStartObject();
+            for (String column : COLUMNS) {
+                Object value = rs.getObject(column);
+                generator.writeFieldName(column);
+                if (value == null) {
+                    generator.writeNull();
+                } else if (value instanceof BigDecimal amount) {
+                    generator.writeNumber(amount);
+                } else if (value instanceof Number number) {
+                    generator.writeNumber(number.longValue());
+                } else if (value instanceof Boolean flag) {
+                    generator.writeBoolean(flag);
+                } else {
+                    generator.writeString(format(value));
+                }
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void writeCsvRow(Writer writer, ResultSet rs) throws SQLException {
+        try {
+            for (int i = 0; i < COLUMNS.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = rs.getObject(COLUMNS[i]);
+                if (value != null) {
+                    writer.write(escapeCsv(format(value)));
+                }
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private String format(Object value) {
+        if (value instanceof Date date) {
+            return date.toLocalDate().toString();
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant().toString();
+        }
+        if (value instanceof BigDecimal amount) {
+            return amount.toPlainString();
+        }
+        return value.toString();
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,162 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.WebhookQueueConfig;
+import com.bridgeapi.model.dto.WebhookEvent;
+import com.bridgeapi.model.dto.WebhookQueueStats;
+import com.bridgeapi.model.entity.BridgeWebhookOutbox;
+import com.bridgeapi.repository.BridgeWebhookOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WebhookQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final BridgeWebhookOutboxRepository outboxRepository;
+    private final WebhookService webhookService;
+    private final WebhookQueueConfig queueConfig;
+    private final WebhookWorkerPool workerPool;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BridgeMetrics bridgeMetrics;
+
+    private final AtomicLong processedTotal = new AtomicLong();
+    private final AtomicLong retriedTotal = new AtomicLong();
+    private final AtomicLong failedTotal = new AtomicLong();
+
+    @Transactional
+    public BridgeWebhookOutbox enqueue(WebhookEvent event) {
+        BridgeWebhookOutbox entry = new BridgeWebhookOutbox();
+        entry.setEventType(event.getType());
+        entry.setItemId(event.getItemId() != null ? String.valueOf(event.getItemId()) : null);
+
+        try {
+            entry.setPayload(objectMapper.writeValueAsString(event));
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("Unable to serialize webhook event: " + e.getMessage(), e);
+        }
+
+        BridgeWebhookOutbox saved = outboxRepository.save(entry);
+        log.debug("Webhook {} queued for item {}", saved.getId(), saved.getItemId());
+        return saved;
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.webhooks.queue.poll-interval-ms:500}")
+    public void drain() {
+        // Only claim what the worker pool can take right now, the rest stays in the outbox
+        int freeSlots = workerPool.freeSlots();
+        if (freeSlots <= 0) {
+            return;
+        }
+
+        List<BridgeWebhookOutbox> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<BridgeWebhookOutbox> entries = outboxRepository.lockPending(now, freeSlots);
+            entries.forEach(entry -> {
+                entry.setStatus(BridgeWebhookOutbox.Status.PROCESSING);
+                entry.setLockedAt(now);
+                entry.setAttempts(entry.getAttempts() + 1);
+            });
+            return outboxRepository.saveAll(entries);
+        });
+
+        if (claimed == null || claimed.isEmpty()) {
+            return;
+        }
+
+        for (BridgeWebhookOutbox entry : claimed) {
+            try {
+                workerPool.execute(() -> process(entry));
+            } catch (RejectedExecutionException e) {
+                log.warn("Webhook worker pool saturated, releasing {}", entry.getId());
+                entry.setStatus(BridgeWebhookOutbox.Status.PENDING);
+                entry.setLockedAt(null);
+                entry.setAttempts(entry.getAttempts() - 1);
+                outboxRepository.save(entry);
+            }
+        }
+    }
+
+    private void process(BridgeWebhookOutbox entry) {
+        try {
+            WebhookEvent event = objectMapper.readValue(entry.getPayload(), WebhookEvent.class);
+            webhookService.handleWebhook(event);
+
+            entry.setStatus(BridgeWebhookOutbox.Status.DONE);
+            entry.setProcessedAt(LocalDateTime.now());
+            entry.setLastError(null);
+            processedTotal.incrementAndGet();
+            bridgeMetrics.countWebhook(entry.getEventType(), "processed");
+        } catch (Exception e) {
+            log.error("Error processing queued webhook {}", entry.getId(), e);
+            entry.setLastError(truncate(e.getMessage()));
+
+            if (entry.getAttempts() >= queueConfig.getMaxAttempts()) {
+                entry.setStatus(BridgeWebhookOutbox.Status.FAILED);
+                failedTotal.incrementAndGet();
+                bridgeMetrics.countWebhook(entry.getEventType(), "failed");
+            } else {
+                long backoff = queueConfig.getRetryBackoffMs() * (1L << Math.min(entry.getAttempts() - 1, 10));
+                entry.setStatus(BridgeWebhookOutbox.Status.PENDING);
+                entry.setNextAttemptAt(LocalDateTime.now().plus(Duration.ofMillis(backoff)));
+                retriedTotal.incrementAndGet();
+                bridgeMetrics.countWebhook(entry.getEventType(), "retried");
+            }
+        }
+
+        entry.setLockedAt(null);
+        outboxRepository.save(entry);
+    }
+
+    @Scheduled(fixedDelayString = "${bridge.webhooks.queue.lease-timeout-ms:300000}")
+    @Transactional
+    public void releaseStaleEntries() {
+        int released = outboxRepository.releaseStale(
+                LocalDateTime.now().minus(Duration.ofMillis(queueConfig.getLeaseTimeoutMs())));
+        if (released > 0) {
+            log.warn("Released {} webhook(s) left in PROCESSING by a previous worker", released);
+        }
+    }
+
+    @Scheduled(cron = "0 0 3 * * *")
+    @Transactional
+    public void purgeProcessedEntries() {
+        int deleted = outboxRepository.deleteProcessedBefore(
+                LocalDateTime.now().minusDays(queueConfig.getRetentionDays()));
+        log.info("Purged {} processed webhook(s)", deleted);
+    }
+
+    public WebhookQueueStats getStats() {
+        return new WebhookQueueStats(
+                outboxRepository.countByStatus(BridgeWebhookOutbox.Status.PENDING),
+                outboxRepository.countByStatus(BridgeWebhookOutbox.Status.PROCESSING),
+                outboxRepository.countByStatus(BridgeWebhookOutbox.Status.FAILED),
+                workerPool.activeCount(),
+                workerPool.queuedCount(),
+                processedTotal.get(),
+                retriedTotal.get(),
+                failedTotal.get());
+    }
+
+    private String truncate(String message) {
+        if (message == null || message.length() <= MAX_ERROR_LENGTH) {
+            return message;
+        }
+        return message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
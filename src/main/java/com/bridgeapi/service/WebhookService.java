@@ -3,6 +3,8 @@ package com.bridgeapi.service;
 import com.bridgeapi.model.dto.WebhookEvent;
 import com.bridgeapi.model.entity.BridgeItem;
 import com.bridgeapi.repository.BridgeItemRepository;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,10 +18,22 @@ import java.util.Optional;
 public class WebhookService {
 
     private final BridgeItemRepository itemRepository;
+    private final ItemRefreshScheduler itemRefreshScheduler;
+    private final ReadCacheInvalidator cacheInvalidator;
+    private final ObservationRegistry observationRegistry;
 
+    // The observation times the event and is the parent of the sync it may trigger
     @Transactional
     public void handleWebhook(WebhookEvent event) {
-        log.info("Processing webhook event type: {} for item: {}", event.getType(), event.getItemId());
+        Observation.createNotStarted("bridge.webhook", observationRegistry)
+                .contextualName("webhook " + BridgeMetrics.webhookType(event.getType()))
+                .lowCardinalityKeyValue("type", BridgeMetrics.webhookType(event.getType()))
+                .highCardinalityKeyValue("item.id", String.valueOf(event.getItemId()))
+                .observe(() -> dispatch(event));
+    }
+
+    private void dispatch(WebhookEvent event) {
+        log.debug("Processing webhook event type: {} for item: {}", event.getType(), event.getItemId());
 
         switch (event.getType()) {
             case "item.status.updated":
@@ -40,7 +54,7 @@ public class WebhookService {
     }
 
     private void handleItemStatusUpdate(WebhookEvent event) {
-        log.info("Handling item status update for item: {}", event.getItemId());
+        log.debug("Handling item status update for item: {}", event.getItemId());
 
         Optional<BridgeItem> itemOpt = itemRepository.findByItemId(String.valueOf(event.getItemId()));
 
@@ -49,15 +63,17 @@ public class WebhookService {
             item.setStatus(event.getStatus());
             item.setStatusCodeInfo(event.getStatusCodeInfo());
             itemRepository.save(item);
-            log.info("Item status updated successfully");
+            cacheInvalidator.evictItemsOfUser(item.getUserUuid());
+            log.debug("Item status updated successfully");
         } else {
             log.warn("Item not found: {}", event.getItemId());
         }
     }
 
     private void handleItemRefreshCompleted(WebhookEvent event) {
-        log.info("Item refresh completed for item: {}", event.getItemId());
+        log.debug("Item refresh completed for item: {}", event.getItemId());
         handleItemStatusUpdate(event);
+        itemRefreshScheduler.requestRefresh(event);
     }
 
     private void handleItemRefreshFailed(WebhookEvent event) {
@@ -0,0 +1,69 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.WebhookQueueConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Bounded pool processing the webhooks claimed from the outbox. The executor is kept out of the context on
+ * purpose: Boot only creates applicationTaskExecutor, used by MVC async requests, when no Executor bean exists.
+ */
+@Component
+public class WebhookWorkerPool implements MeterBinder {
+
+    private final int workers;
+    private final ThreadPoolExecutor executor;
+
+    public WebhookWorkerPool(WebhookQueueConfig queueConfig, Environment environment) {
+        // The pool keeps bounding the number of webhooks processed at once, only the threads become virtual.
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("webhook-worker-").getVirtualThreadFactory()
+                : new CustomizableThreadFactory("webhook-worker-");
+        this.workers = queueConfig.getWorkers();
+        this.executor = new ThreadPoolExecutor(
+                workers,
+                workers,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueConfig.getCapacity()),
+                threadFactory);
+    }
+
+    public void execute(Runnable task) {
+        executor.execute(task);
+    }
+
+    public int freeSlots() {
+        return workers - executor.getActiveCount() + executor.getQueue().remainingCapacity();
+    }
+
+    public int activeCount() {
+        return executor.getActiveCount();
+    }
+
+    public int queuedCount() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        new ExecutorServiceMetrics(executor, "webhook-worker", Tags.empty()).bindTo(registry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
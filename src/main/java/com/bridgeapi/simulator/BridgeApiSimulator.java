@@ -0,0 +1,140 @@
+package com.bridgeapi.simulator;
+
+import com.bridgeapi.config.SimulatorConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.function.IntFunction;
+
+/**
+ * Deterministic Bridge dataset: every id and value derives from the user uuid and the element index,
+ * so any page can be generated in O(page size) without keeping state between calls.
+ */
+@Component
+@Profile("simulator")
+@RequiredArgsConstructor
+public class BridgeApiSimulator {
+
+    public static final String TOKEN_PREFIX = "sim-";
+    private static final Instant BASE_UPDATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+    private static final LocalDate BASE_DATE = LocalDate.of(2025, 1, 1);
+    private static final String[] OPERATION_TYPES = {"card", "transfer", "direct_debit", "withdrawal"};
+    private static final String[] MERCHANTS = {"CARREFOUR", "SNCF", "AMAZON", "FNAC", "UBER", "EDF", "ORANGE"};
+
+    private final SimulatorConfig config;
+    private final ObjectMapper objectMapper;
+
+    public String userOf(String authorization) {
+        if (authorization == null || !authorization.startsWith("Bearer " + TOKEN_PREFIX)) {
+            return null;
+        }
+        return authorization.substring(("Bearer " + TOKEN_PREFIX).length());
+    }
+
+    public ObjectNode itemsPage(String pathPrefix, String userUuid, int after, int limit) {
+        int total = config.getItemsPerUser();
+        return page(pathPrefix + "/aggregation/items", total, after, limit, null, index -> {
+            ObjectNode item = objectMapper.createObjectNode();
+            item.put("id", itemId(userUuid, index));
+            item.put("status", 0);
+            item.put("status_code_info", "OK");
+            item.put("status_code_description", "Item synchronized");
+            item.put("provider_id", 500 + index % 10);
+            return item;
+        });
+    }
+
+    public ObjectNode accountsPage(String pathPrefix, String userUuid, int after, int limit) {
+        int total = config.getItemsPerUser() * config.getAccountsPerItem();
+        return page(pathPrefix + "/aggregation/accounts", total, after, limit, null, index -> {
+            long itemId = itemId(userUuid, index / config.getAccountsPerItem());
+            long accountId = accountId(itemId, index % config.getAccountsPerItem());
+            SplittableRandom random = new SplittableRandom(accountId);
+
+            ObjectNode account = objectMapper.createObjectNode();
+            account.put("id", accountId);
+            account.put("item_id", itemId);
+            account.put("name", "Compte " + (index + 1));
+            account.put("balance", BigDecimal.valueOf(random.nextInt(-50_000, 2_000_000), 2));
+            account.put("currency", "EUR");
+            account.put("type", index % 3 == 0 ? "savings" : "checking");
+            account.put("status", 0);
+            account.put("iban", String.format("FR76%023d", accountId));
+            return account;
+        });
+    }
+
+    /**
+     * Transaction k of an account was last updated at BASE + k minutes, so since only shifts the first k.
+     */
+    public ObjectNode transactionsPage(String pathPrefix, String userUuid, Instant since, int after, int limit) {
+        int accounts = config.getItemsPerUser() * config.getAccountsPerItem();
+        int firstK = since == null ? 0
+                : (int) Math.min(config.getTransactionsPerAccount(),
+                Math.max(0, ChronoUnit.MINUTES.between(BASE_UPDATED_AT, since) + 1));
+        int perAccount = config.getTransactionsPerAccount() - firstK;
+
+        return page(pathPrefix + "/aggregation/transactions", accounts * perAccount, after, limit, since, index -> {
+            int accountIndex = index / perAccount;
+            int k = firstK + index % perAccount;
+            long itemId = itemId(userUuid, accountIndex / config.getAccountsPerItem());
+            long accountId = accountId(itemId, accountIndex % config.getAccountsPerItem());
+            SplittableRandom random = new SplittableRandom(accountId * 31 + k);
+
+            ObjectNode transaction = objectMapper.createObjectNode();
+            transaction.put("id", accountId * 1_000_000L + k);
+            transaction.put("account_id", accountId);
+            transaction.put("description", "CB " + MERCHANTS[random.nextInt(MERCHANTS.length)] + " " + k);
+            transaction.put("amount", BigDecimal.valueOf(random.nextInt(-30_000, 5_000), 2));
+            transaction.put("currency", "EUR");
+            transaction.put("date", BASE_DATE.minusDays(k % 365).toString());
+            transaction.put("operation_type", OPERATION_TYPES[random.nextInt(OPERATION_TYPES.length)]);
+            transaction.put("category_id", 200 + random.nextInt(80));
+            transaction.put("is_deleted", false);
+            transaction.put("updated_at", BASE_UPDATED_AT.plus(k, ChronoUnit.MINUTES).toString());
+            return transaction;
+        });
+    }
+
+    public long itemId(String userUuid, int index) {
+        return (long) Math.floorMod(userUuid.hashCode(), 1_000_000) * 10 + index;
+    }
+
+    private long accountId(long itemId, int index) {
+        return itemId * 10 + index;
+    }
+
+    private ObjectNode page(String path, int total, int after, int limit, Instant since, IntFunction<ObjectNode> element) {
+        int pageSize = Math.max(1, Math.min(limit, config.getMaxPageSize()));
+        int end = Math.min(total, after + pageSize);
+
+        ObjectNode page = objectMapper.createObjectNode();
+        ArrayNode resources = page.putArray("resources");
+        for (int index = after; index < end; index++) {
+            resources.add(element.apply(index));
+        }
+
+        // Host-relative like the real API, resolved by the client against its base url
+        String nextUri = end < total
+                ? UriComponentsBuilder.fromPath(path)
+                .queryParam("after", end)
+                .queryParam("limit", pageSize)
+                .queryParamIfPresent("since", Optional.ofNullable(since))
+                .build()
+                .toUriString()
+                : null;
+        page.putObject("pagination").put("next_uri", nextUri);
+        return page;
+    }
+}
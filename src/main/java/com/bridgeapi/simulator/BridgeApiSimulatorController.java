@@ -0,0 +1,171 @@
+package com.bridgeapi.simulator;
+
+import com.bridgeapi.config.SimulatorConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * In-process stand-in for https://api.bridgeapi.io/v3, enabled with the simulator profile.
+ * Latency is applied with a non-blocking delay so it does not hold servlet threads.
+ */
+@Slf4j
+@RestController
+@Profile("simulator")
+@RequestMapping(BridgeApiSimulatorController.BASE_PATH)
+@RequiredArgsConstructor
+public class BridgeApiSimulatorController {
+
+    static final String BASE_PATH = "/simulator/v3";
+
+    private final BridgeApiSimulator simulator;
+    private final SimulatorConfig config;
+    private final ObjectMapper objectMapper;
+
+    @PostMapping("/aggregation/users")
+    public Mono<ResponseEntity<JsonNode>> createUser(@RequestBody JsonNode request) {
+        return respond(() -> {
+            String email = request.path("email").asText();
+            ObjectNode user = objectMapper.createObjectNode();
+            user.put("uuid", UUID.nameUUIDFromBytes(email.getBytes()).toString());
+            user.put("email", email);
+            user.set("external_user_id", request.get("external_user_id"));
+            return ResponseEntity.status(HttpStatus.CREATED).body(user);
+        });
+    }
+
+    @PostMapping("/aggregation/authorization/token")
+    public Mono<ResponseEntity<JsonNode>> createToken(@RequestBody JsonNode request) {
+        return respond(() -> {
+            ObjectNode token = objectMapper.createObjectNode();
+            token.put("access_token", BridgeApiSimulator.TOKEN_PREFIX + request.path("user_uuid").asText());
+            token.put("expires_at", Instant.now().plus(Duration.ofHours(2)).toString());
+            return ResponseEntity.ok(token);
+        });
+    }
+
+    @PostMapping("/aggregation/connect-sessions")
+    public Mono<ResponseEntity<JsonNode>> createConnectSession(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization) {
+        return respond(() -> {
+            String userUuid = simulator.userOf(authorization);
+            if (userUuid == null) {
+                return unauthorized();
+            }
+            String sessionId = UUID.randomUUID().toString();
+            ObjectNode session = objectMapper.createObjectNode();
+            session.put("uuid", sessionId);
+            session.put("connect_url", "https://connect.bridgeapi.io/session/" + sessionId);
+            session.put("item_id", simulator.itemId(userUuid, 0));
+            session.put("success", true);
+            return ResponseEntity.ok(session);
+        });
+    }
+
+    @GetMapping("/aggregation/items")
+    public Mono<ResponseEntity<JsonNode>> getItems(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam(defaultValue = "0") int after,
+            @RequestParam(defaultValue = "50") int limit) {
+        return respond(() -> {
+            String userUuid = simulator.userOf(authorization);
+            return userUuid == null ? unauthorized()
+                    : ResponseEntity.ok(simulator.itemsPage(BASE_PATH, userUuid, after, limit));
+        });
+    }
+
+    @GetMapping("/aggregation/accounts")
+    public Mono<ResponseEntity<JsonNode>> getAccounts(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam(defaultValue = "0") int after,
+            @RequestParam(defaultValue = "50") int limit) {
+        return respond(() -> {
+            String userUuid = simulator.userOf(authorization);
+            return userUuid == null ? unauthorized()
+                    : ResponseEntity.ok(simulator.accountsPage(BASE_PATH, userUuid, after, limit));
+        });
+    }
+
+    @GetMapping("/aggregation/transactions")
+    public Mono<ResponseEntity<JsonNode>> getTransactions(
+            @RequestHeader(HttpHeaders.AUTHORIZATION) String authorization,
+            @RequestParam(defaultValue = "0") int after,
+            @RequestParam(defaultValue = "50") int limit,
+            @RequestParam(required = false) String since) {
+        return respond(() -> {
+            String userUuid = simulator.userOf(authorization);
+            return userUuid == null ? unauthorized()
+                    : ResponseEntity.ok(simulator.transactionsPage(BASE_PATH, userUuid, parseSince(since), after, limit));
+        });
+    }
+
+    private Mono<ResponseEntity<JsonNode>> respond(Supplier<ResponseEntity<JsonNode>> handler) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long jitter = config.getLatencyJitterMs() > 0 ? random.nextLong(config.getLatencyJitterMs() + 1) : 0;
+        Duration latency = Duration.ofMillis(config.getLatencyMs() + jitter);
+
+        double draw = random.nextDouble();
+        Supplier<ResponseEntity<JsonNode>> response;
+        if (draw < config.getRateLimitRate()) {
+            response = this::rateLimited;
+        } else if (draw < config.getRateLimitRate() + config.getErrorRate()) {
+            response = this::serverError;
+        } else {
+            response = handler;
+        }
+
+        return Mono.delay(latency).map(tick -> response.get());
+    }
+
+    private ResponseEntity<JsonNode> rateLimited() {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(config.getRetryAfterSeconds()))
+                .body(error("too_many_requests", "Simulated rate limit"));
+    }
+
+    private ResponseEntity<JsonNode> serverError() {
+        return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body(error("internal_server_error", "Simulated failure"));
+    }
+
+    private ResponseEntity<JsonNode> unauthorized() {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                .body(error("invalid_token", "Unknown simulator access token"));
+    }
+
+    private JsonNode error(String type, String message) {
+        ObjectNode error = objectMapper.createObjectNode();
+        error.put("type", type);
+        error.put("message", message);
+        return error;
+    }
+
+    // The sync passes an ISO instant watermark, the manual endpoint accepts a plain date
+    private Instant parseSince(String since) {
+        if (since == null || since.isBlank()) {
+            return null;
+        }
+        try {
+            return Instant.parse(since);
+        } catch (DateTimeParseException e) {
+            return LocalDate.parse(since).atStartOfDay().toInstant(ZoneOffset.UTC);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.bridgeapi.simulator;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+@RestController
+@Profile("simulator")
+@RequestMapping("/simulator/webhooks")
+@RequiredArgsConstructor
+public class SimulatorController {
+
+    private final WebhookBurstGenerator burstGenerator;
+
+    @PostMapping("/burst")
+    public Mono<ResponseEntity<Map<String, Object>>> fireBurst(
+            @RequestParam(defaultValue = "100") int count,
+            @RequestParam(defaultValue = "20") int concurrency,
+            @RequestParam(required = false) String type) {
+        return burstGenerator.fire(count, concurrency, type)
+                .map(ResponseEntity::ok);
+    }
+}
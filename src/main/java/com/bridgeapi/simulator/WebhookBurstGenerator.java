@@ -0,0 +1,99 @@
+package com.bridgeapi.simulator;
+
+import com.bridgeapi.config.SimulatorConfig;
+import com.bridgeapi.model.dto.WebhookEvent;
+import com.bridgeapi.model.entity.BridgeItem;
+import com.bridgeapi.repository.BridgeItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fires WebhookEvent bursts at WebhookController over HTTP, the way Bridge does. Events target items
+ * already synced so refresh events trigger real incremental syncs; X-Forwarded-For carries a Bridge
+ * source IP so the IP allow-list accepts them.
+ */
+@Slf4j
+@Component
+@Profile("simulator")
+@RequiredArgsConstructor
+public class WebhookBurstGenerator {
+
+    private static final String[] EVENT_TYPES = {
+            "item.refresh.completed", "item.refresh.completed", "item.refresh.completed",
+            "item.status.updated", "item.refresh.failed", "item.error"
+    };
+
+    private final SimulatorConfig config;
+    private final BridgeItemRepository itemRepository;
+    private final WebClient webhookClient = WebClient.create();
+
+    public Mono<Map<String, Object>> fire(int count, int concurrency, String type) {
+        List<BridgeItem> items = itemRepository.findAll(PageRequest.of(0, 1000)).getContent();
+        AtomicInteger accepted = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        long start = System.nanoTime();
+
+        return Flux.range(0, count)
+                .map(index -> event(type, items))
+                .flatMap(event -> webhookClient.post()
+                        .uri(config.getWebhookTargetUrl())
+                        .header("X-Forwarded-For", config.getWebhookSourceIp())
+                        .bodyValue(event)
+                        .retrieve()
+                        .toBodilessEntity()
+                        .doOnNext(response -> accepted.incrementAndGet())
+                        .onErrorResume(e -> {
+                            rejected.incrementAndGet();
+                            return Mono.empty();
+                        }), Math.max(1, concurrency))
+                .then(Mono.fromSupplier(() -> {
+                    double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+                    Map<String, Object> summary = new HashMap<>();
+                    summary.put("sent", count);
+                    summary.put("accepted", accepted.get());
+                    summary.put("rejected", rejected.get());
+                    summary.put("duration_seconds", seconds);
+                    summary.put("events_per_second", seconds > 0 ? count / seconds : 0);
+                    log.info("Webhook burst done: {}", summary);
+                    return summary;
+                }));
+    }
+
+    private WebhookEvent event(String type, List<BridgeItem> items) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        WebhookEvent event = new WebhookEvent();
+        event.setType(type != null ? type : EVENT_TYPES[random.nextInt(EVENT_TYPES.length)]);
+        event.setCreatedAt(Instant.now().toString());
+
+        if (items.isEmpty()) {
+            event.setItemId(random.nextInt(1_000_000, 10_000_000));
+        } else {
+            BridgeItem item = items.get(random.nextInt(items.size()));
+            event.setItemId(Integer.valueOf(item.getItemId()));
+            event.setUserUuid(item.getUserUuid());
+        }
+
+        event.setStatus("0");
+        event.setStatusCodeInfo("OK");
+        if ("item.refresh.completed".equals(event.getType())) {
+            event.setFullRefresh(false);
+            event.setNbNewTransactions(random.nextInt(0, 20));
+            event.setNbUpdatedTransactions(random.nextInt(0, 5));
+            event.setNbDeletedTransactions(0);
+        }
+        return event;
+    }
+}
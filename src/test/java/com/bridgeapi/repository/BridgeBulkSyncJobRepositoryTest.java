@@ -0,0 +1,55 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeBulkSyncJob;
+import com.bridgeapi.model.entity.BridgeBulkSyncTask;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BridgeBulkSyncJobRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private BridgeBulkSyncJobRepository jobRepository;
+
+    @Autowired
+    private BridgeBulkSyncTaskRepository taskRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void completeFinishedJobsOnlyCompletesJobsWithoutOpenTasks() {
+        BridgeBulkSyncJob finished = createJob();
+        BridgeBulkSyncJob inProgress = createJob();
+        createTask(finished, BridgeBulkSyncTask.Status.DONE);
+        createTask(finished, BridgeBulkSyncTask.Status.FAILED);
+        createTask(inProgress, BridgeBulkSyncTask.Status.DONE);
+        createTask(inProgress, BridgeBulkSyncTask.Status.PENDING);
+
+        assertThat(jobRepository.completeFinishedJobs()).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(jobRepository.findById(finished.getId()))
+                .hasValueSatisfying(job -> assertThat(job.getStatus()).isEqualTo(BridgeBulkSyncJob.Status.COMPLETED));
+        assertThat(jobRepository.findById(inProgress.getId()))
+                .hasValueSatisfying(job -> assertThat(job.getStatus()).isEqualTo(BridgeBulkSyncJob.Status.RUNNING));
+    }
+
+    private BridgeBulkSyncJob createJob() {
+        BridgeBulkSyncJob job = new BridgeBulkSyncJob();
+        job.setTotalUsers(2);
+        return jobRepository.saveAndFlush(job);
+    }
+
+    private void createTask(BridgeBulkSyncJob job, BridgeBulkSyncTask.Status status) {
+        BridgeBulkSyncTask task = new BridgeBulkSyncTask();
+        task.setJobId(job.getId());
+        task.setUserUuid("user-" + System.nanoTime());
+        task.setStatus(status);
+        taskRepository.saveAndFlush(task);
+    }
+}
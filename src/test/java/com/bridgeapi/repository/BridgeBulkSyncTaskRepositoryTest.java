@@ -0,0 +1,62 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.model.entity.BridgeBulkSyncTask;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BridgeBulkSyncTaskRepositoryTest extends PostgresRepositoryTest {
+
+    @Autowired
+    private BridgeBulkSyncTaskRepository taskRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void lockPendingReturnsDueTasksOfRunningJobs() {
+        String runningJob = createJob("RUNNING");
+        String completedJob = createJob("COMPLETED");
+        LocalDateTime now = LocalDateTime.now();
+
+        BridgeBulkSyncTask due = createTask(runningJob, BridgeBulkSyncTask.Status.PENDING, now.minusMinutes(1));
+        createTask(runningJob, BridgeBulkSyncTask.Status.PENDING, now.plusMinutes(5));
+        createTask(runningJob, BridgeBulkSyncTask.Status.DONE, now.minusMinutes(1));
+        createTask(completedJob, BridgeBulkSyncTask.Status.PENDING, now.minusMinutes(1));
+
+        List<BridgeBulkSyncTask> locked = taskRepository.lockPending(now, 10);
+
+        assertThat(locked).extracting(BridgeBulkSyncTask::getId).containsExactly(due.getId());
+    }
+
+    @Test
+    void lockPendingHonoursLimit() {
+        String job = createJob("RUNNING");
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            createTask(job, BridgeBulkSyncTask.Status.PENDING, now.minusMinutes(1));
+        }
+
+        assertThat(taskRepository.lockPending(now, 2)).hasSize(2);
+    }
+
+    private String createJob(String status) {
+        return jdbcTemplate.queryForObject(
+                "INSERT INTO bridge_bulk_sync_jobs (status, total_users) VALUES (?, 1) RETURNING id::text",
+                String.class, status);
+    }
+
+    private BridgeBulkSyncTask createTask(String jobId, BridgeBulkSyncTask.Status status, LocalDateTime nextAttemptAt) {
+        BridgeBulkSyncTask task = new BridgeBulkSyncTask();
+        task.setJobId(jobId);
+        task.setUserUuid("user-" + System.nanoTime());
+        task.setStatus(status);
+        task.setNextAttemptAt(nextAttemptAt);
+        return taskRepository.saveAndFlush(task);
+    }
+}
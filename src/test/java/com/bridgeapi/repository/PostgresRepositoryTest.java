@@ -0,0 +1,82 @@
+package com.bridgeapi.repository;
+
+import com.bridgeapi.config.CacheConfig;
+import com.bridgeapi.config.HibernateCacheConfig;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.stream.Stream;
+
+/*
+ * Repository tests against a real PostgreSQL with supabase/migrations applied, so native queries are checked
+ * against the schema they run on in production. One server is shared by every test class of the JVM.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({CacheConfig.class, HibernateCacheConfig.class})
+abstract class PostgresRepositoryTest {
+
+    private static final Path STUBS = Path.of("benchmarks/sql/supabase-stubs.sql");
+    private static final Path MIGRATIONS = Path.of("supabase/migrations");
+
+    private static EmbeddedPostgres postgres;
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        EmbeddedPostgres server = start();
+        registry.add("spring.datasource.url", () -> server.getJdbcUrl("postgres", "postgres") + "&stringtype=unspecified");
+        registry.add("spring.datasource.password", () -> "");
+    }
+
+    private static synchronized EmbeddedPostgres start() {
+        if (postgres == null) {
+            try {
+                postgres = EmbeddedPostgres.builder().start();
+                Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+                    try {
+                        postgres.close();
+                    } catch (IOException ignored) {
+                        // The JVM is exiting
+                    }
+                }));
+                migrate(postgres);
+            } catch (IOException | SQLException e) {
+                throw new IllegalStateException("Unable to start the test database", e);
+            }
+        }
+        return postgres;
+    }
+
+    private static void migrate(EmbeddedPostgres server) throws IOException, SQLException {
+        List<Path> migrations;
+        try (Stream<Path> files = Files.list(MIGRATIONS)) {
+            migrations = files.filter(file -> file.toString().endsWith(".sql")).sorted().toList();
+        }
+
+        try (Connection connection = server.getPostgresDatabase().getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute(Files.readString(STUBS));
+            for (Path migration : migrations) {
+                try {
+                    statement.execute(Files.readString(migration));
+                } catch (SQLException e) {
+                    throw new SQLException("Migration " + migration.getFileName() + " failed", e);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        }
+    }
+}
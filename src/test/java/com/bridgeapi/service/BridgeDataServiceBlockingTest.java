@@ -0,0 +1,132 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.config.BridgeSyncConfig;
+import com.bridgeapi.model.dto.SyncReport;
+import com.bridgeapi.model.dto.UpsertResult;
+import com.bridgeapi.repository.BridgeAccountRepository;
+import com.bridgeapi.repository.BridgeBalanceHistoryRepository;
+import com.bridgeapi.repository.BridgeItemRepository;
+import com.bridgeapi.repository.BridgeTransactionAggregateRepository;
+import com.bridgeapi.repository.BridgeTransactionRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import reactor.blockhound.BlockHound;
+import reactor.blockhound.BlockingOperationError;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/*
+ * Bridge responses are published on the parallel scheduler, which BlockHound treats like the reactor-netty
+ * event loops. The writers sleep like a JDBC call would: the sync fails if one of them runs on that thread
+ * instead of the persistence scheduler.
+ */
+class BridgeDataServiceBlockingTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String USER_UUID = "user-1";
+    private static final String ACCESS_TOKEN = "token";
+
+    private final BridgeApiService bridgeApiService = mock(BridgeApiService.class);
+    private final TransactionBatchWriter transactionBatchWriter = mock(TransactionBatchWriter.class);
+    private final PartitionMaintenanceService partitionMaintenanceService = mock(PartitionMaintenanceService.class);
+    private final BridgeEntityWriter entityWriter = mock(BridgeEntityWriter.class);
+    private final BridgeMetrics bridgeMetrics = mock(BridgeMetrics.class);
+
+    private Scheduler persistenceScheduler;
+    private BridgeDataService dataService;
+
+    @BeforeAll
+    static void installBlockHound() {
+        BlockHound.install();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        persistenceScheduler = Schedulers.newBoundedElastic(2, 100, "bridge-persistence");
+        dataService = new BridgeDataService(bridgeApiService, mock(BridgeItemRepository.class),
+                mock(BridgeAccountRepository.class), mock(BridgeTransactionRepository.class),
+                mock(BridgeTransactionAggregateRepository.class), mock(BridgeBalanceHistoryRepository.class),
+                transactionBatchWriter, partitionMaintenanceService, entityWriter, new BridgeResourceMapper(),
+                bridgeMetrics, new BridgeSyncConfig(), persistenceScheduler);
+
+        when(bridgeMetrics.timeSync(anyString(), any())).thenAnswer(invocation -> invocation.getArgument(1));
+
+        when(bridgeApiService.getItems(ACCESS_TOKEN)).thenReturn(page("""
+                {"resources": [{"id": 1, "status": 0, "provider_id": 6}]}
+                """));
+        when(bridgeApiService.getAccounts(ACCESS_TOKEN)).thenReturn(page("""
+                {"resources": [{"id": 10, "item_id": 1, "name": "Compte courant", "balance": 120.5,
+                                "currency": "EUR", "type": "checking", "status": 0}]}
+                """));
+        when(bridgeApiService.getTransactions(eq(ACCESS_TOKEN), any())).thenReturn(page("""
+                {"resources": [{"id": 100, "account_id": 10, "description": "Boulangerie", "amount": -4.2,
+                                "currency": "EUR", "date": "2025-01-15", "updated_at": "2025-01-15T10:00:00Z"}]}
+                """));
+
+        when(entityWriter.upsertItems(eq(USER_UUID), anyList())).thenAnswer(jdbcCall(new UpsertResult(1, 0, 0)));
+        when(entityWriter.upsertAccounts(anyList())).thenAnswer(jdbcCall(new UpsertResult(1, 0, 0)));
+        when(transactionBatchWriter.findWatermark(USER_UUID)).thenAnswer(jdbcCall(Optional.empty()));
+        when(transactionBatchWriter.write(eq(USER_UUID), anyList())).thenAnswer(jdbcCall(new UpsertResult(1, 0, 0)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        persistenceScheduler.dispose();
+    }
+
+    @Test
+    void blockingCallOnParallelSchedulerIsDetected() {
+        Mono<Integer> blocking = Mono.fromCallable(() -> {
+                    Thread.sleep(5);
+                    return 1;
+                })
+                .subscribeOn(Schedulers.parallel());
+
+        assertThatThrownBy(() -> blocking.block(Duration.ofSeconds(5)))
+                .satisfies(error -> assertThat(Exceptions.unwrap(error)).isInstanceOf(BlockingOperationError.class));
+    }
+
+    @Test
+    void syncUserDataPersistsOnPersistenceScheduler() {
+        SyncReport report = dataService.syncUserData(USER_UUID, ACCESS_TOKEN).block(Duration.ofSeconds(10));
+
+        assertThat(report).isNotNull();
+        assertThat(report.isSuccessful()).isTrue();
+        assertThat(report.getTransactions().getInserted()).isEqualTo(1);
+        verify(partitionMaintenanceService).ensureTransactionPartitions(anyList());
+        verify(transactionBatchWriter).completeSync(USER_UUID);
+    }
+
+    private static Flux<JsonNode> page(String json) throws Exception {
+        JsonNode node = MAPPER.readTree(json);
+        return Flux.just(node).publishOn(Schedulers.parallel());
+    }
+
+    private static <T> Answer<T> jdbcCall(T result) {
+        return invocation -> {
+            Thread.sleep(5);
+            return result;
+        };
+    }
+}
@@ -0,0 +1,75 @@
+package com.bridgeapi.service;
+
+import com.bridgeapi.exception.BridgeApiException;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.Disposable;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BridgeMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final BridgeMetrics bridgeMetrics = new BridgeMetrics(registry);
+
+    @Test
+    void retriedMonoFailuresAreRecordedOncePerAttempt() {
+        Mono<String> call = bridgeMetrics.timeApiRequest("items", Mono.<String>error(unauthorized()))
+                .retryWhen(Retry.max(2));
+
+        assertThatThrownBy(() -> call.block(Duration.ofSeconds(5)));
+
+        assertThat(count("401")).isEqualTo(3);
+        assertThat(count("CANCELLED")).isZero();
+    }
+
+    @Test
+    void retriedFluxFailuresAreRecordedOncePerAttempt() {
+        Flux<String> call = bridgeMetrics.timeApiRequest("transactions", Flux.<String>error(unauthorized()))
+                .retryWhen(Retry.max(2));
+
+        assertThatThrownBy(() -> call.collectList().block(Duration.ofSeconds(5)));
+
+        assertThat(count("401")).isEqualTo(3);
+        assertThat(count("CANCELLED")).isZero();
+    }
+
+    @Test
+    void cancelledRequestIsRecordedOnce() {
+        Mono<String> call = bridgeMetrics.timeApiRequest("items", Mono.<String>never());
+
+        Disposable subscription = call.subscribe();
+        subscription.dispose();
+
+        assertThat(count("CANCELLED")).isEqualTo(1);
+        assertThat(registry.find("bridge.api.requests").timers()).hasSize(1);
+    }
+
+    @Test
+    void fluxCancelledAfterItsLastElementIsRecordedOnce() {
+        Flux<String> call = bridgeMetrics.timeApiRequest("accounts", Flux.just("a", "b")).take(1);
+
+        assertThat(call.collectList().block(Duration.ofSeconds(5))).containsExactly("a");
+
+        assertThat(registry.find("bridge.api.requests").timers())
+                .extracting(Timer::count)
+                .containsExactly(1L);
+    }
+
+    private long count(String status) {
+        Collection<Timer> timers = registry.find("bridge.api.requests").tag("status", status).timers();
+        return timers.stream().mapToLong(Timer::count).sum();
+    }
+
+    private static BridgeApiException unauthorized() {
+        return new BridgeApiException("items", 401, "Unauthorized", null);
+    }
+}
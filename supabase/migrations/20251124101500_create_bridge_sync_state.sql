@@ -0,0 +1,48 @@
+/*
+  # Bridge sync state
+
+  ## Overview
+  Stores the incremental sync watermark per Bridge user so that transaction syncs only fetch
+  the delta since the last successful run.
+
+  ## Tables Created
+
+  ### 1. bridge_sync_state
+  - `id` (uuid, primary key) - Internal identifier
+  - `user_uuid` (text, not null) - Bridge user UUID
+  - `item_id` (text, not null) - Item scope, `*` when the sync covers every item of the user
+  - `last_since` (timestamptz) - `since` value passed to Bridge on the next sync
+  - `updated_at_cursor` (timestamptz) - Highest Bridge `updated_at` committed so far,
+    advanced in the same transaction as each written batch
+  - `last_synced_at` (timestamptz) - Completion time of the last successful sync
+  - `created_at` (timestamptz) - Creation timestamp
+  - `updated_at` (timestamptz) - Last update timestamp
+
+  ## Security
+  - RLS enabled, users can only read the sync state of their own Bridge UUID
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_sync_state (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_uuid text NOT NULL,
+    item_id text NOT NULL DEFAULT '*',
+    last_since timestamptz,
+    updated_at_cursor timestamptz,
+    last_synced_at timestamptz,
+    created_at timestamptz DEFAULT now(),
+    updated_at timestamptz DEFAULT now(),
+    UNIQUE (user_uuid, item_id)
+);
+
+ALTER TABLE bridge_sync_state ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Users can view own sync state"
+    ON bridge_sync_state FOR SELECT
+    TO authenticated
+    USING (
+        EXISTS (
+            SELECT 1 FROM bridge_users
+            WHERE bridge_users.bridge_uuid = bridge_sync_state.user_uuid
+            AND bridge_users.external_user_id = auth.uid()::text
+        )
+    );
@@ -0,0 +1,49 @@
+/*
+  # Bridge webhook outbox
+
+  ## Overview
+  Durable queue for incoming Bridge webhooks. The webhook endpoint only inserts a row and
+  acknowledges; a bounded worker pool claims rows with `FOR UPDATE SKIP LOCKED` and processes them.
+
+  ## Tables Created
+
+  ### 1. bridge_webhook_outbox
+  - `id` (uuid, primary key) - Internal identifier
+  - `event_type` (text, not null) - Bridge event type (`item.refresh.completed`, ...)
+  - `item_id` (text) - Bridge item ID of the event
+  - `payload` (text, not null) - Raw event serialized as JSON
+  - `status` (text, not null) - PENDING, PROCESSING, DONE or FAILED
+  - `attempts` (integer, not null) - Number of processing attempts
+  - `next_attempt_at` (timestamptz, not null) - Earliest time the event can be claimed again
+  - `locked_at` (timestamptz) - Time the event was claimed by a worker
+  - `last_error` (text) - Last processing error
+  - `processed_at` (timestamptz) - Processing completion time
+  - `created_at` (timestamptz) - Reception time
+
+  ## Security
+  - RLS enabled without policies, the table is only accessed by the service role
+
+  ## Indexes
+  - Partial index on pending events ordered by reception time, used by the claim query
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_webhook_outbox (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    event_type text NOT NULL,
+    item_id text,
+    payload text NOT NULL,
+    status text NOT NULL DEFAULT 'PENDING',
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamptz NOT NULL DEFAULT now(),
+    locked_at timestamptz,
+    last_error text,
+    processed_at timestamptz,
+    created_at timestamptz DEFAULT now()
+);
+
+ALTER TABLE bridge_webhook_outbox ENABLE ROW LEVEL SECURITY;
+
+CREATE INDEX IF NOT EXISTS idx_bridge_webhook_outbox_pending
+    ON bridge_webhook_outbox(created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_bridge_webhook_outbox_status ON bridge_webhook_outbox(status);
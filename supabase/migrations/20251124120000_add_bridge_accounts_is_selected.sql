@@ -0,0 +1,14 @@
+/*
+  # Account selection flag
+
+  ## Overview
+  Adds the `is_selected` column mapped by `BridgeAccount` and used by the account selection
+  endpoints, which query the selected account of an item.
+
+  ## Columns Added
+
+  ### bridge_accounts
+  - `is_selected` (boolean, not null, default false) - Account chosen by the user for its item
+*/
+
+ALTER TABLE bridge_accounts ADD COLUMN IF NOT EXISTS is_selected boolean NOT NULL DEFAULT false;
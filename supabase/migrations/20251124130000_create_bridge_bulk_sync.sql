@@ -0,0 +1,68 @@
+/*
+  # Bridge bulk sync jobs
+
+  ## Overview
+  Durable state of multi-user sync runs. A job holds one task per user; a dispatcher claims pending
+  tasks with `FOR UPDATE SKIP LOCKED` under global and per-provider concurrency limits, so a run
+  resumes where it stopped after a crash or redeploy.
+
+  ## Tables Created
+
+  ### 1. bridge_bulk_sync_jobs
+  - `id` (uuid, primary key) - Internal identifier
+  - `status` (text, not null) - RUNNING or COMPLETED
+  - `total_users` (integer, not null) - Number of users in the run
+  - `finished_at` (timestamptz) - Time the last task finished
+  - `created_at` (timestamptz) - Start time of the run
+
+  ### 2. bridge_bulk_sync_tasks
+  - `id` (uuid, primary key) - Internal identifier
+  - `job_id` (text, not null) - Parent job id
+  - `user_uuid` (text, not null) - Bridge user to sync
+  - `provider_ids` (text) - Comma separated provider ids of the user's items
+  - `status` (text, not null) - PENDING, RUNNING, DONE or FAILED
+  - `attempts` (integer, not null) - Number of sync attempts
+  - `next_attempt_at` (timestamptz, not null) - Earliest time the task can be claimed again
+  - `locked_at` (timestamptz) - Time the task was claimed by an instance
+  - `last_error` (text) - Last sync error
+  - `finished_at` (timestamptz) - Completion time
+  - `created_at` (timestamptz) - Creation time
+
+  ## Security
+  - RLS enabled without policies, the tables are only accessed by the service role
+
+  ## Indexes
+  - Partial index on pending tasks ordered by creation time, used by the claim query
+  - Index on (job_id, status) for progress counters
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_bulk_sync_jobs (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    status text NOT NULL DEFAULT 'RUNNING',
+    total_users integer NOT NULL,
+    finished_at timestamptz,
+    created_at timestamptz DEFAULT now()
+);
+
+CREATE TABLE IF NOT EXISTS bridge_bulk_sync_tasks (
+    id uuid PRIMARY KEY DEFAULT gen_random_uuid(),
+    job_id text NOT NULL,
+    user_uuid text NOT NULL,
+    provider_ids text,
+    status text NOT NULL DEFAULT 'PENDING',
+    attempts integer NOT NULL DEFAULT 0,
+    next_attempt_at timestamptz NOT NULL DEFAULT now(),
+    locked_at timestamptz,
+    last_error text,
+    finished_at timestamptz,
+    created_at timestamptz DEFAULT now()
+);
+
+ALTER TABLE bridge_bulk_sync_jobs ENABLE ROW LEVEL SECURITY;
+ALTER TABLE bridge_bulk_sync_tasks ENABLE ROW LEVEL SECURITY;
+
+CREATE INDEX IF NOT EXISTS idx_bridge_bulk_sync_tasks_pending
+    ON bridge_bulk_sync_tasks(created_at)
+    WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_bridge_bulk_sync_tasks_job_status ON bridge_bulk_sync_tasks(job_id, status);
+CREATE INDEX IF NOT EXISTS idx_bridge_bulk_sync_jobs_status ON bridge_bulk_sync_jobs(status);
@@ -0,0 +1,15 @@
+/*
+  # Keyset index on bridge_transactions
+
+  ## Overview
+  Serves the paginated transaction API (`GET /api/bridge/data/transactions/{accountId}/page`), which
+  walks an account newest first on `(date, transaction_id)` with a date range.
+
+  ## Indexes
+  - `idx_bridge_transactions_account_keyset` on (account_id, date DESC, transaction_id DESC), covering the
+    projected columns so a page is answered by an index-only scan without touching the heap
+*/
+
+CREATE INDEX IF NOT EXISTS idx_bridge_transactions_account_keyset
+    ON bridge_transactions(account_id, date DESC, transaction_id DESC)
+    INCLUDE (description, amount, currency, operation_type, category_id, category_name, is_deleted);
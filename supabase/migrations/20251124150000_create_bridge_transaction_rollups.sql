@@ -0,0 +1,65 @@
+/*
+  # Monthly transaction rollups
+
+  ## Overview
+  Pre-aggregated sums per (account, month, category, operation type) backing the aggregation endpoint
+  (`GET /api/bridge/data/aggregates/transactions`). Each sync batch recomputes the (account, month)
+  groups it touches in the same database transaction as the transaction upsert.
+
+  ## Tables Created
+
+  ### 1. bridge_transaction_rollups
+  - `account_id` (text, not null) - Bridge account ID
+  - `month` (date, not null) - First day of the month
+  - `category_id` (integer) - Bridge category ID
+  - `category_name` (text) - Bridge category name
+  - `operation_type` (text) - Bridge operation type
+  - `total_amount` (numeric, not null) - Sum of amounts
+  - `debit_amount` (numeric, not null) - Sum of negative amounts
+  - `credit_amount` (numeric, not null) - Sum of positive amounts
+  - `transaction_count` (bigint, not null) - Number of transactions
+  - `updated_at` (timestamptz) - Last recomputation
+
+  Deleted transactions (`is_deleted`) are excluded.
+
+  ## Security
+  - RLS enabled without policies, the table is only accessed by the service role
+
+  ## Indexes
+  - Unique index on the group key, NULL category and operation type compare equal
+  - Index on (month) for cross-account period queries
+
+  ## Data
+  - Backfilled from existing bridge_transactions
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_transaction_rollups (
+    account_id text NOT NULL,
+    month date NOT NULL,
+    category_id integer,
+    category_name text,
+    operation_type text,
+    total_amount numeric NOT NULL DEFAULT 0,
+    debit_amount numeric NOT NULL DEFAULT 0,
+    credit_amount numeric NOT NULL DEFAULT 0,
+    transaction_count bigint NOT NULL DEFAULT 0,
+    updated_at timestamptz DEFAULT now()
+);
+
+ALTER TABLE bridge_transaction_rollups ENABLE ROW LEVEL SECURITY;
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_bridge_transaction_rollups_group
+    ON bridge_transaction_rollups(account_id, month, category_id, operation_type) NULLS NOT DISTINCT;
+CREATE INDEX IF NOT EXISTS idx_bridge_transaction_rollups_month ON bridge_transaction_rollups(month);
+
+INSERT INTO bridge_transaction_rollups (account_id, month, category_id, category_name, operation_type,
+                                        total_amount, debit_amount, credit_amount, transaction_count)
+SELECT account_id, date_trunc('month', date)::date, category_id, max(category_name), operation_type,
+       sum(amount),
+       coalesce(sum(amount) FILTER (WHERE amount < 0), 0),
+       coalesce(sum(amount) FILTER (WHERE amount > 0), 0),
+       count(*)
+FROM bridge_transactions
+WHERE is_deleted IS NOT TRUE AND date IS NOT NULL
+GROUP BY account_id, date_trunc('month', date)::date, category_id, operation_type
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,69 @@
+/*
+  # Account balance history
+
+  ## Overview
+  Append-only log of account balances, one row each time an account sync sees a balance change.
+  The row is written by the same statement that upserts bridge_accounts, so history and current
+  balance cannot diverge. Balance charts read a range of this table instead of replaying transactions.
+
+  ## Tables Created
+
+  ### 1. bridge_account_balance_history
+  - `account_id` (text, not null) - Bridge account ID
+  - `recorded_at` (timestamptz, not null) - Time the new balance was observed
+  - `balance` (numeric, not null) - Balance reported by Bridge
+
+  Range-partitioned by month on `recorded_at`. `bridge_ensure_balance_history_partitions(n)` creates
+  the partitions of the current month and the n following ones, it is called monthly by the service.
+  The default partition only receives rows if that maintenance stopped running.
+
+  ## Security
+  - RLS enabled without policies, the table is only accessed by the service role
+
+  ## Indexes
+  - Primary key on (account_id, recorded_at), inherited by every partition
+
+  ## Data
+  - Seeded with the current balance of every existing account
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_account_balance_history (
+    account_id text NOT NULL,
+    recorded_at timestamptz NOT NULL DEFAULT now(),
+    balance numeric NOT NULL,
+    PRIMARY KEY (account_id, recorded_at)
+) PARTITION BY RANGE (recorded_at);
+
+CREATE TABLE IF NOT EXISTS bridge_account_balance_history_default
+    PARTITION OF bridge_account_balance_history DEFAULT;
+
+ALTER TABLE bridge_account_balance_history ENABLE ROW LEVEL SECURITY;
+
+CREATE OR REPLACE FUNCTION bridge_ensure_balance_history_partitions(months_ahead integer)
+RETURNS void
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    month_start date;
+    partition_name text;
+BEGIN
+    FOR i IN 0..months_ahead LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        partition_name := 'bridge_account_balance_history_' || to_char(month_start, 'YYYYMM');
+
+        EXECUTE format(
+            'CREATE TABLE IF NOT EXISTS %I PARTITION OF bridge_account_balance_history FOR VALUES FROM (%L) TO (%L)',
+            partition_name, month_start, (month_start + interval '1 month')::date);
+        EXECUTE format('ALTER TABLE %I ENABLE ROW LEVEL SECURITY', partition_name);
+    END LOOP;
+END;
+$$;
+
+SELECT bridge_ensure_balance_history_partitions(3);
+
+INSERT INTO bridge_account_balance_history (account_id, recorded_at, balance)
+SELECT account_id, now(), balance
+FROM bridge_accounts
+WHERE balance IS NOT NULL
+ON CONFLICT DO NOTHING;
@@ -0,0 +1,229 @@
+/*
+  # Index and RLS optimization pass
+
+  ## Overview
+  Aligns the bridge_* indexes with the query shapes the service actually runs and rewrites the RLS
+  policies so that the ownership check is evaluated once per statement instead of once per row.
+  Measured with the scripts in `benchmarks/sql` over a generated 10M-transaction dataset.
+
+  ## Data
+  - Items that ended up with several selected accounts keep only the most recently updated one,
+    which the unique index below requires
+
+  ## Indexes
+  - `idx_bridge_accounts_selected_per_item`, unique on (item_id) WHERE is_selected: answers
+    `findByItemIdAndIsSelectedTrue` / `existsByItemIdAndIsSelectedTrue` from a one-entry-per-item
+    index and enforces "one selected account per item" in the database, not only in the service
+  - `idx_bridge_users_external_user_id` on (external_user_id), the entry point of every policy
+  - `(account_id, date DESC)` on bridge_transactions is served by the existing
+    `idx_bridge_transactions_account_keyset` (account_id, date DESC, transaction_id DESC), so
+    `findByAccountIdAndDateAfter` is a range scan on its prefix and no second copy is created
+  - `idx_bridge_items_user_uuid` on (user_uuid) already exists and is kept
+  - Dropped `idx_bridge_users_bridge_uuid`, `idx_bridge_items_item_id`, `idx_bridge_accounts_account_id`
+    and `idx_bridge_transactions_transaction_id`, which duplicate the indexes of the UNIQUE constraints,
+    and `idx_bridge_transactions_account_id`, a prefix of the keyset index. Every upsert paid for them.
+
+  ## Security
+  - `auth.uid()` is wrapped in a sub-select so Postgres evaluates it once per statement (InitPlan)
+  - Policies test `<key> IN (SELECT ...)` against the caller's own ids, resolved through
+    external_user_id -> bridge_uuid -> item_id -> account_id with an index at each hop, instead of a
+    correlated EXISTS join per candidate row
+  - Same access rules as before: authenticated users see and write only data linked to their Bridge UUID
+*/
+
+UPDATE bridge_accounts
+SET is_selected = false, updated_at = now()
+WHERE id IN (
+    SELECT id FROM (
+        SELECT id, row_number() OVER (PARTITION BY item_id ORDER BY updated_at DESC NULLS LAST, id) AS rank
+        FROM bridge_accounts
+        WHERE is_selected
+    ) ranked
+    WHERE rank > 1
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_bridge_accounts_selected_per_item
+    ON bridge_accounts(item_id)
+    WHERE is_selected;
+
+CREATE INDEX IF NOT EXISTS idx_bridge_users_external_user_id ON bridge_users(external_user_id);
+
+DROP INDEX IF EXISTS idx_bridge_users_bridge_uuid;
+DROP INDEX IF EXISTS idx_bridge_items_item_id;
+DROP INDEX IF EXISTS idx_bridge_accounts_account_id;
+DROP INDEX IF EXISTS idx_bridge_transactions_transaction_id;
+DROP INDEX IF EXISTS idx_bridge_transactions_account_id;
+
+-- bridge_users
+
+DROP POLICY IF EXISTS "Users can view own data" ON bridge_users;
+DROP POLICY IF EXISTS "Users can insert own data" ON bridge_users;
+DROP POLICY IF EXISTS "Users can update own data" ON bridge_users;
+
+CREATE POLICY "Users can view own data"
+    ON bridge_users FOR SELECT
+    TO authenticated
+    USING (external_user_id = (SELECT auth.uid())::text);
+
+CREATE POLICY "Users can insert own data"
+    ON bridge_users FOR INSERT
+    TO authenticated
+    WITH CHECK (external_user_id = (SELECT auth.uid())::text);
+
+CREATE POLICY "Users can update own data"
+    ON bridge_users FOR UPDATE
+    TO authenticated
+    USING (external_user_id = (SELECT auth.uid())::text)
+    WITH CHECK (external_user_id = (SELECT auth.uid())::text);
+
+-- bridge_items
+
+DROP POLICY IF EXISTS "Users can view own items" ON bridge_items;
+DROP POLICY IF EXISTS "Users can insert own items" ON bridge_items;
+DROP POLICY IF EXISTS "Users can update own items" ON bridge_items;
+
+CREATE POLICY "Users can view own items"
+    ON bridge_items FOR SELECT
+    TO authenticated
+    USING (
+        user_uuid IN (
+            SELECT u.bridge_uuid FROM bridge_users u
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can insert own items"
+    ON bridge_items FOR INSERT
+    TO authenticated
+    WITH CHECK (
+        user_uuid IN (
+            SELECT u.bridge_uuid FROM bridge_users u
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can update own items"
+    ON bridge_items FOR UPDATE
+    TO authenticated
+    USING (
+        user_uuid IN (
+            SELECT u.bridge_uuid FROM bridge_users u
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    )
+    WITH CHECK (
+        user_uuid IN (
+            SELECT u.bridge_uuid FROM bridge_users u
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+-- bridge_accounts
+
+DROP POLICY IF EXISTS "Users can view own accounts" ON bridge_accounts;
+DROP POLICY IF EXISTS "Users can insert own accounts" ON bridge_accounts;
+DROP POLICY IF EXISTS "Users can update own accounts" ON bridge_accounts;
+
+CREATE POLICY "Users can view own accounts"
+    ON bridge_accounts FOR SELECT
+    TO authenticated
+    USING (
+        item_id IN (
+            SELECT i.item_id FROM bridge_items i
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can insert own accounts"
+    ON bridge_accounts FOR INSERT
+    TO authenticated
+    WITH CHECK (
+        item_id IN (
+            SELECT i.item_id FROM bridge_items i
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can update own accounts"
+    ON bridge_accounts FOR UPDATE
+    TO authenticated
+    USING (
+        item_id IN (
+            SELECT i.item_id FROM bridge_items i
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    )
+    WITH CHECK (
+        item_id IN (
+            SELECT i.item_id FROM bridge_items i
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+-- bridge_transactions
+
+DROP POLICY IF EXISTS "Users can view own transactions" ON bridge_transactions;
+DROP POLICY IF EXISTS "Users can insert own transactions" ON bridge_transactions;
+DROP POLICY IF EXISTS "Users can update own transactions" ON bridge_transactions;
+
+CREATE POLICY "Users can view own transactions"
+    ON bridge_transactions FOR SELECT
+    TO authenticated
+    USING (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can insert own transactions"
+    ON bridge_transactions FOR INSERT
+    TO authenticated
+    WITH CHECK (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can update own transactions"
+    ON bridge_transactions FOR UPDATE
+    TO authenticated
+    USING (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    )
+    WITH CHECK (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+-- bridge_sync_state
+
+DROP POLICY IF EXISTS "Users can view own sync state" ON bridge_sync_state;
+
+CREATE POLICY "Users can view own sync state"
+    ON bridge_sync_state FOR SELECT
+    TO authenticated
+    USING (
+        user_uuid IN (
+            SELECT u.bridge_uuid FROM bridge_users u
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
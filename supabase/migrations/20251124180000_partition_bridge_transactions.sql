@@ -0,0 +1,200 @@
+/*
+  # Monthly partitioning of bridge_transactions
+
+  ## Overview
+  Turns bridge_transactions into a table range-partitioned by month on `date`, so vacuum, index
+  maintenance and backups work on bounded monthly partitions, queries filtered on `date` only scan
+  the months they overlap, and old months can be detached and archived as standalone tables.
+  The existing rows are copied into the new partitioned table, which then replaces the old one.
+
+  ## Tables Modified
+
+  ### 1. bridge_transactions
+  Same columns as before, with two changes required by partitioning:
+  - `date` is now NOT NULL, because it is the partition key. Rows without a date are backfilled with
+    their creation date.
+  - The primary key is (id, date) and the unique key is (transaction_id, date), because unique
+    constraints must contain the partition key. The batch upsert resolves conflicts on
+    (transaction_id, date). When Bridge moves a transaction to another date, the upsert deletes the
+    old row in the same statement, so transaction_id stays unique.
+
+  Partitions:
+  - `bridge_transactions_YYYYMM`, one per month.
+  - `bridge_transactions_default`, which only receives rows for months whose partition is missing.
+  - `bridge_ensure_transaction_partitions(from_date, to_date)` creates every missing monthly
+    partition in the range. Rows already sitting in the default partition for that month are moved
+    into the new partition. The service calls it before writing a batch with unseen months, and
+    monthly for the months ahead.
+  - `bridge_detach_transaction_partitions(before_date)` detaches the partitions that end before
+    `before_date` and returns their names. The detached tables keep their data and indexes, ready to
+    be dumped and dropped, or re-attached with `ALTER TABLE bridge_transactions ATTACH PARTITION`.
+
+  ## Security
+  - RLS enabled on the parent with the policies of the previous table
+  - RLS enabled without policies on every partition, which are only reached through the parent
+
+  ## Indexes
+  - Primary key (id, date) and unique key (transaction_id, date), inherited by every partition
+  - `idx_bridge_transactions_account_keyset` (account_id, date DESC, transaction_id DESC) with the
+    projected columns included, created on each partition
+  - `idx_bridge_transactions_date` is not recreated: date ranges are resolved by partition pruning
+*/
+
+UPDATE bridge_transactions
+SET date = coalesce(created_at::date, current_date)
+WHERE date IS NULL;
+
+ALTER TABLE bridge_transactions RENAME TO bridge_transactions_unpartitioned;
+ALTER INDEX IF EXISTS bridge_transactions_pkey RENAME TO bridge_transactions_unpartitioned_pkey;
+ALTER INDEX IF EXISTS bridge_transactions_transaction_id_key
+    RENAME TO bridge_transactions_unpartitioned_transaction_id_key;
+DROP INDEX IF EXISTS idx_bridge_transactions_account_keyset;
+DROP INDEX IF EXISTS idx_bridge_transactions_date;
+
+CREATE TABLE bridge_transactions (
+    id uuid NOT NULL DEFAULT gen_random_uuid(),
+    transaction_id text NOT NULL,
+    account_id text NOT NULL,
+    description text NOT NULL,
+    amount numeric NOT NULL,
+    currency text,
+    date date NOT NULL,
+    operation_type text,
+    category_id integer,
+    category_name text,
+    is_deleted boolean DEFAULT false,
+    created_at timestamptz DEFAULT now(),
+    updated_at timestamptz DEFAULT now(),
+    CONSTRAINT bridge_transactions_pkey PRIMARY KEY (id, date),
+    CONSTRAINT bridge_transactions_transaction_id_date_key UNIQUE (transaction_id, date)
+) PARTITION BY RANGE (date);
+
+CREATE TABLE bridge_transactions_default PARTITION OF bridge_transactions DEFAULT;
+
+CREATE INDEX idx_bridge_transactions_account_keyset
+    ON bridge_transactions(account_id, date DESC, transaction_id DESC)
+    INCLUDE (description, amount, currency, operation_type, category_id, category_name, is_deleted);
+
+ALTER TABLE bridge_transactions ENABLE ROW LEVEL SECURITY;
+ALTER TABLE bridge_transactions_default ENABLE ROW LEVEL SECURITY;
+
+CREATE POLICY "Users can view own transactions"
+    ON bridge_transactions FOR SELECT
+    TO authenticated
+    USING (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can insert own transactions"
+    ON bridge_transactions FOR INSERT
+    TO authenticated
+    WITH CHECK (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE POLICY "Users can update own transactions"
+    ON bridge_transactions FOR UPDATE
+    TO authenticated
+    USING (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    )
+    WITH CHECK (
+        account_id IN (
+            SELECT a.account_id FROM bridge_accounts a
+            JOIN bridge_items i ON i.item_id = a.item_id
+            JOIN bridge_users u ON u.bridge_uuid = i.user_uuid
+            WHERE u.external_user_id = (SELECT auth.uid())::text
+        )
+    );
+
+CREATE OR REPLACE FUNCTION bridge_ensure_transaction_partitions(from_date date, to_date date)
+RETURNS integer
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    month_start date := date_trunc('month', from_date)::date;
+    month_end date;
+    partition_name text;
+    created integer := 0;
+BEGIN
+    -- Concurrent syncs may ask for the same month
+    PERFORM pg_advisory_xact_lock(hashtext('bridge_transactions_partitions'));
+
+    WHILE month_start <= to_date LOOP
+        month_end := (month_start + interval '1 month')::date;
+        partition_name := 'bridge_transactions_' || to_char(month_start, 'YYYYMM');
+
+        IF to_regclass(partition_name) IS NULL THEN
+            EXECUTE format('CREATE TABLE %I (LIKE bridge_transactions INCLUDING DEFAULTS)', partition_name);
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM bridge_transactions_default WHERE date >= %L AND date < %L RETURNING *) '
+                    'INSERT INTO %I SELECT * FROM moved',
+                month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE bridge_transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end);
+            EXECUTE format('ALTER TABLE %I ENABLE ROW LEVEL SECURITY', partition_name);
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION bridge_detach_transaction_partitions(before_date date)
+RETURNS SETOF text
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    partition_name text;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('bridge_transactions_partitions'));
+
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits inh
+        JOIN pg_class c ON c.oid = inh.inhrelid
+        WHERE inh.inhparent = 'bridge_transactions'::regclass
+          AND c.relname ~ '^bridge_transactions_[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') + interval '1 month' <= date_trunc('month', before_date)
+        ORDER BY c.relname
+    LOOP
+        EXECUTE format('ALTER TABLE bridge_transactions DETACH PARTITION %I', partition_name);
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$;
+
+SELECT bridge_ensure_transaction_partitions(
+    coalesce((SELECT min(date) FROM bridge_transactions_unpartitioned), current_date),
+    greatest((SELECT max(date) FROM bridge_transactions_unpartitioned),
+             (current_date + interval '3 months')::date));
+
+INSERT INTO bridge_transactions (id, transaction_id, account_id, description, amount, currency, date,
+                                 operation_type, category_id, category_name, is_deleted, created_at, updated_at)
+SELECT id, transaction_id, account_id, description, amount, currency, date,
+       operation_type, category_id, category_name, is_deleted, created_at, updated_at
+FROM bridge_transactions_unpartitioned;
+
+DROP TABLE bridge_transactions_unpartitioned;
+
+ANALYZE bridge_transactions;
@@ -0,0 +1,125 @@
+/*
+  # Transaction key lookup
+
+  ## Overview
+  Since bridge_transactions was partitioned by date, `transaction_id` alone is neither unique nor able
+  to prune partitions. Looking rows up by it probed the (transaction_id, date) index of every monthly
+  partition, at a cost that grew with the history. This unpartitioned table maps each transaction to
+  its current date and account. The batch upsert maintains it in the same statement as the
+  transaction rows, and every lookup by transaction_id goes through it first.
+
+  ## Tables Created
+
+  ### 1. bridge_transaction_keys
+  - `transaction_id` (text, primary key) - Bridge transaction ID, unique across all partitions
+  - `account_id` (text, not null) - Current account of the transaction
+  - `date` (date, not null) - Current date, i.e. the partition holding the row
+
+  ## Functions Modified
+  - `bridge_ensure_transaction_partitions` checks `pg_inherits` instead of `to_regclass`. A month whose
+    table was detached for archiving but not dropped yet is attached again, with the rows the default
+    partition received for it meanwhile. Before, the detached table was mistaken for a live partition
+    and the month's rows silently landed in the default partition.
+  - `bridge_detach_transaction_partitions` also removes the keys of the detached months
+
+  ## Security
+  - RLS enabled without policies, the table is only accessed by the service role
+
+  ## Indexes
+  - Primary key on (transaction_id)
+
+  ## Data
+  - Backfilled from bridge_transactions
+*/
+
+CREATE TABLE IF NOT EXISTS bridge_transaction_keys (
+    transaction_id text PRIMARY KEY,
+    account_id text NOT NULL,
+    date date NOT NULL
+);
+
+ALTER TABLE bridge_transaction_keys ENABLE ROW LEVEL SECURITY;
+
+INSERT INTO bridge_transaction_keys (transaction_id, account_id, date)
+SELECT DISTINCT ON (transaction_id) transaction_id, account_id, date
+FROM bridge_transactions
+ORDER BY transaction_id, updated_at DESC NULLS LAST
+ON CONFLICT DO NOTHING;
+
+CREATE OR REPLACE FUNCTION bridge_ensure_transaction_partitions(from_date date, to_date date)
+RETURNS integer
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    month_start date := date_trunc('month', from_date)::date;
+    month_end date;
+    partition_name text;
+    created integer := 0;
+BEGIN
+    -- Concurrent syncs may ask for the same month
+    PERFORM pg_advisory_xact_lock(hashtext('bridge_transactions_partitions'));
+
+    WHILE month_start <= to_date LOOP
+        month_end := (month_start + interval '1 month')::date;
+        partition_name := 'bridge_transactions_' || to_char(month_start, 'YYYYMM');
+
+        IF NOT EXISTS (
+            SELECT 1 FROM pg_inherits
+            WHERE inhparent = 'bridge_transactions'::regclass
+              AND inhrelid = to_regclass(partition_name)
+        ) THEN
+            IF to_regclass(partition_name) IS NULL THEN
+                EXECUTE format('CREATE TABLE %I (LIKE bridge_transactions INCLUDING DEFAULTS)', partition_name);
+            ELSE
+                -- Detached for archiving and not dropped yet: the month is live again
+                EXECUTE format(
+                    'INSERT INTO bridge_transaction_keys (transaction_id, account_id, date) '
+                        'SELECT transaction_id, account_id, date FROM %I ON CONFLICT DO NOTHING',
+                    partition_name);
+            END IF;
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM bridge_transactions_default WHERE date >= %L AND date < %L RETURNING *) '
+                    'INSERT INTO %I SELECT * FROM moved',
+                month_start, month_end, partition_name);
+            EXECUTE format('ALTER TABLE bridge_transactions ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end);
+            EXECUTE format('ALTER TABLE %I ENABLE ROW LEVEL SECURITY', partition_name);
+            created := created + 1;
+        END IF;
+
+        month_start := month_end;
+    END LOOP;
+
+    RETURN created;
+END;
+$$;
+
+CREATE OR REPLACE FUNCTION bridge_detach_transaction_partitions(before_date date)
+RETURNS SETOF text
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    partition_name text;
+    month_start date;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('bridge_transactions_partitions'));
+
+    FOR partition_name IN
+        SELECT c.relname
+        FROM pg_inherits inh
+        JOIN pg_class c ON c.oid = inh.inhrelid
+        WHERE inh.inhparent = 'bridge_transactions'::regclass
+          AND c.relname ~ '^bridge_transactions_[0-9]{6}$'
+          AND to_date(right(c.relname, 6), 'YYYYMM') + interval '1 month' <= date_trunc('month', before_date)
+        ORDER BY c.relname
+    LOOP
+        month_start := to_date(right(partition_name, 6), 'YYYYMM');
+        EXECUTE format('ALTER TABLE bridge_transactions DETACH PARTITION %I', partition_name);
+        DELETE FROM bridge_transaction_keys
+        WHERE date >= month_start AND date < (month_start + interval '1 month')::date;
+        RETURN NEXT partition_name;
+    END LOOP;
+END;
+$$;
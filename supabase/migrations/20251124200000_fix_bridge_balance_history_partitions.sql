@@ -0,0 +1,51 @@
+/*
+  # Balance history partition creation
+
+  ## Overview
+  `bridge_ensure_balance_history_partitions` ran `CREATE TABLE ... PARTITION OF` directly. When the
+  monthly maintenance had stopped, the default partition already held rows of the missing month,
+  so the creation failed on them and the month never got its partition. The month's rows are now
+  moved out of the default partition into a standalone table, which is then attached.
+
+  ## Functions Modified
+  - `bridge_ensure_balance_history_partitions` only creates partitions that are not attached yet,
+    serialized by an advisory lock like the transaction partitions
+*/
+
+CREATE OR REPLACE FUNCTION bridge_ensure_balance_history_partitions(months_ahead integer)
+RETURNS void
+LANGUAGE plpgsql
+SET search_path = public
+AS $$
+DECLARE
+    month_start date;
+    month_end date;
+    partition_name text;
+BEGIN
+    PERFORM pg_advisory_xact_lock(hashtext('bridge_account_balance_history_partitions'));
+
+    FOR i IN 0..months_ahead LOOP
+        month_start := (date_trunc('month', now()) + make_interval(months => i))::date;
+        month_end := (month_start + interval '1 month')::date;
+        partition_name := 'bridge_account_balance_history_' || to_char(month_start, 'YYYYMM');
+
+        IF NOT EXISTS (
+            SELECT 1 FROM pg_inherits
+            WHERE inhparent = 'bridge_account_balance_history'::regclass
+              AND inhrelid = to_regclass(partition_name)
+        ) THEN
+            EXECUTE format('CREATE TABLE IF NOT EXISTS %I (LIKE bridge_account_balance_history INCLUDING DEFAULTS)',
+                partition_name);
+            EXECUTE format(
+                'WITH moved AS (DELETE FROM bridge_account_balance_history_default '
+                    'WHERE recorded_at >= %L AND recorded_at < %L RETURNING *) '
+                    'INSERT INTO %I SELECT * FROM moved',
+                month_start, month_end, partition_name);
+            EXECUTE format(
+                'ALTER TABLE bridge_account_balance_history ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                partition_name, month_start, month_end);
+            EXECUTE format('ALTER TABLE %I ENABLE ROW LEVEL SECURITY', partition_name);
+        END IF;
+    END LOOP;
+END;
+$$;